@@ -20,6 +20,7 @@ import java.net.URL;
 
 import org.jboss.shrinkwrap.resolver.api.ConfigurableResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.Resolvers;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepositories;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
 
@@ -119,4 +120,47 @@ public interface ConfigurableMavenResolverSystemBase<UNCONFIGURABLERESOLVERSYSTE
      * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
      */
     PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE useLegacyLocalRepo(boolean useLegacyLocalRepository);
+
+    /**
+     * Sets number of artifacts and metadata downloaded concurrently from remote repositories. Dependency graph is then
+     * collected by a breadth-first collector which downloads POM files in parallel as well. Defaults to value of
+     * {@code org.jboss.shrinkwrap.resolver.maven.parallelDownloads} system property, or to Maven Resolver defaults if
+     * that is not set. The default implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param threads Number of concurrent downloads, must be positive
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code threads} is not positive
+     * @throws UnsupportedOperationException If the resolver system does not support parallel downloads
+     */
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withParallelDownloads(int threads) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Parallel downloads are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Sets whether worker threads started by the resolver, such as those resolving batches of dependency sets, are
+     * virtual threads. Virtual threads are used only on JDK 21 and newer, platform threads are used otherwise. Defaults
+     * to value of {@code org.jboss.shrinkwrap.resolver.maven.virtualThreads} system property. The default
+     * implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param virtualThreads Whether to use virtual threads
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws UnsupportedOperationException If the resolver system does not start worker threads
+     */
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withVirtualThreads(boolean virtualThreads) {
+        throw new UnsupportedOperationException("Virtual threads are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Registers a listener notified about durations of resolution phases, such as settings building, dependency
+     * collection or artifact resolution, and about files downloaded from remote repositories. See
+     * {@link org.jboss.shrinkwrap.resolver.api.maven.metrics.InMemoryResolutionMetrics} for an implementation
+     * aggregating them in memory. The default implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param metrics The listener, {@code null} to unregister the current one
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws UnsupportedOperationException If the resolver system does not report resolution metrics
+     */
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withResolutionMetrics(ResolutionMetrics metrics) {
+        throw new UnsupportedOperationException("Resolution metrics are not supported by " + getClass().getName());
+    }
 }
@@ -16,8 +16,15 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven;
 
+import java.util.Collection;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.ResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.Resolvers;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
 
 /**
  * Entry point of a Maven-based Resolver system which does not support configuration. To create a new instance, pass in
@@ -29,4 +36,42 @@ import org.jboss.shrinkwrap.resolver.api.Resolvers;
 public interface MavenResolverSystemBase<EQUIPPEDRESOLVESTAGETYPE extends PomEquippedResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE>, UNEQUIPPEDRESOLVESTAGETYPE extends PomlessResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, UNEQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE>, STRATEGYSTAGETYPE extends MavenStrategyStageBase<STRATEGYSTAGETYPE, FORMATSTAGETYPE>, FORMATSTAGETYPE extends MavenFormatStage>
     extends ResolverSystem,
     PomlessResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, UNEQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE> {
+
+    /**
+     * Resolves multiple independent sets of dependencies, including their transitive dependencies. Sets are resolved in
+     * parallel, sharing configuration of this resolver system. Dependencies added for resolution by other means are not
+     * affected.
+     *
+     * @param canonicalForms Sets of dependencies in their canonical form, identified by keys
+     * @param <K> Type of keys identifying the sets
+     * @return Format stages of resolved sets, identified by the same keys and in the same order
+     * @throws IllegalArgumentException If any of the sets is empty or contains an empty canonical form
+     * @throws CoordinateParseException If any of the canonical forms is not valid
+     * @throws ResolutionException If any of the sets could not be resolved
+     */
+    default <K> Map<K, MavenFormatStage> resolveAll(Map<K, ? extends Collection<String>> canonicalForms)
+        throws IllegalArgumentException, CoordinateParseException, ResolutionException {
+        return resolveAll(canonicalForms, TransitiveStrategy.INSTANCE);
+    }
+
+    /**
+     * Resolves multiple independent sets of dependencies using given strategy. Sets are resolved in parallel, sharing
+     * configuration of this resolver system. Dependencies added for resolution by other means are not affected.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}, resolver systems supporting batch
+     * resolution override it.
+     *
+     * @param canonicalForms Sets of dependencies in their canonical form, identified by keys
+     * @param strategy Strategy used to resolve every set
+     * @param <K> Type of keys identifying the sets
+     * @return Format stages of resolved sets, identified by the same keys and in the same order
+     * @throws IllegalArgumentException If any of the sets is empty or contains an empty canonical form
+     * @throws CoordinateParseException If any of the canonical forms is not valid
+     * @throws ResolutionException If any of the sets could not be resolved
+     * @throws UnsupportedOperationException If the resolver system does not support batch resolution
+     */
+    default <K> Map<K, MavenFormatStage> resolveAll(Map<K, ? extends Collection<String>> canonicalForms,
+        MavenResolutionStrategy strategy) throws IllegalArgumentException, CoordinateParseException, ResolutionException {
+        throw new UnsupportedOperationException("Batch resolution is not supported by " + getClass().getName());
+    }
 }
@@ -16,11 +16,19 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.TransitiveStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
 
 /**
  * Provides support for Maven-based {@link ResolutionStrategy}s in artifact resolution
@@ -31,4 +39,89 @@ import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
  */
 public interface MavenStrategyStageBase<STRATEGYSTAGETYPE extends MavenStrategyStageBase<STRATEGYSTAGETYPE, FORMATSTAGETYPE>, FORMATSTAGETYPE extends MavenFormatStage>
     extends TransitiveStrategyStage<MavenDependency, MavenResolutionFilter, MavenResolvedArtifact, FORMATSTAGETYPE, MavenResolutionStrategy> {
+
+    /**
+     * Asynchronous variant of {@link #withTransitivity()}, see {@link #usingAsync(MavenResolutionStrategy, Executor)}
+     *
+     * @param executor Executor running the resolution
+     * @return Future completed by the next {@link MavenFormatStage}
+     * @throws IllegalArgumentException If executor is {@code null} or no dependencies were set for resolution
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withTransitivityAsync(Executor executor) throws IllegalArgumentException {
+        return usingAsync(TransitiveStrategy.INSTANCE, executor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #withoutTransitivity()}, see {@link #usingAsync(MavenResolutionStrategy, Executor)}
+     *
+     * @param executor Executor running the resolution
+     * @return Future completed by the next {@link MavenFormatStage}
+     * @throws IllegalArgumentException If executor is {@code null} or no dependencies were set for resolution
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withoutTransitivityAsync(Executor executor)
+        throws IllegalArgumentException {
+        return usingAsync(NonTransitiveStrategy.INSTANCE, executor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #using(org.jboss.shrinkwrap.resolver.api.ResolutionStrategy)}. Dependencies set for
+     * resolution are taken when this method is called, so the resolver can be used again while the resolution runs on
+     * the executor. The returned future is completed exceptionally by a
+     * {@link org.jboss.shrinkwrap.resolver.api.ResolutionException} if the resolution fails. Cancelling the future
+     * aborts the resolution, including transfers in progress.
+     * <p>
+     * The default implementation resolves the dependencies in the calling thread by
+     * {@link #using(org.jboss.shrinkwrap.resolver.api.ResolutionStrategy)} and returns an already completed future.
+     *
+     * @param strategy Strategy of the resolution
+     * @param executor Executor running the resolution
+     * @return Future completed by the next {@link MavenFormatStage}
+     * @throws IllegalArgumentException If strategy or executor is {@code null} or no dependencies were set for
+     *         resolution
+     */
+    default CompletableFuture<FORMATSTAGETYPE> usingAsync(MavenResolutionStrategy strategy, Executor executor)
+        throws IllegalArgumentException {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy must be specified");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must be specified");
+        }
+        final CompletableFuture<FORMATSTAGETYPE> future = new CompletableFuture<>();
+        try {
+            future.complete(using(strategy));
+        } catch (ResolutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Streaming variant of {@link #usingAsync(MavenResolutionStrategy, Executor)}. The resolution runs on the executor
+     * and the returned stream provides every resolved artifact as soon as its file is resolved, so artifacts can be
+     * consumed before the rest of the dependency graph is resolved. Artifacts are provided in the order they were
+     * resolved, which may differ from the order of {@link MavenFormatStage} results. Consuming the stream blocks until
+     * the next artifact is resolved; if the resolution fails, the stream throws a
+     * {@link org.jboss.shrinkwrap.resolver.api.ResolutionException} after the artifacts resolved before the failure.
+     * Closing the stream aborts the resolution, including transfers in progress.
+     * <p>
+     * The default implementation resolves the dependencies in the calling thread by
+     * {@link #using(org.jboss.shrinkwrap.resolver.api.ResolutionStrategy)} and streams the resolved artifacts afterwards.
+     *
+     * @param strategy Strategy of the resolution
+     * @param executor Executor running the resolution
+     * @return Sequential stream of resolved artifacts
+     * @throws IllegalArgumentException If strategy or executor is {@code null} or no dependencies were set for
+     *         resolution
+     */
+    default Stream<MavenResolvedArtifact> stream(MavenResolutionStrategy strategy, Executor executor)
+        throws IllegalArgumentException {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy must be specified");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must be specified");
+        }
+        return Arrays.stream(using(strategy).asResolvedArtifact());
+    }
 }
@@ -20,12 +20,15 @@ import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.VersionResolutionException;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 import org.jboss.shrinkwrap.resolver.api.maven.pom.ParsedPomFile;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
@@ -83,6 +86,68 @@ public interface MavenWorkingSession {
     Collection<MavenResolvedArtifact> resolveDependencies(MavenResolutionStrategy strategy)
             throws ResolutionException;
 
+    /**
+     * Resolves given dependencies using current session configuration. Unlike {@link #resolveDependencies(MavenResolutionStrategy)},
+     * dependencies for resolution of this session are neither used nor modified, so this method can be called
+     * concurrently from multiple threads as long as the session is not reconfigured at the same time.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}, sessions supporting concurrent
+     * resolutions override it.
+     *
+     * @param dependencies Dependencies to be resolved
+     * @param strategy Strategy of the resolution
+     * @return Resolved artifacts
+     * @throws ResolutionException If dependencies could not be resolved
+     * @throws UnsupportedOperationException If the session does not support resolution of given dependencies
+     */
+    default Collection<MavenResolvedArtifact> resolveDependencies(List<MavenDependency> dependencies,
+            MavenResolutionStrategy strategy) throws ResolutionException {
+        throw new UnsupportedOperationException("Resolution of given dependencies is not supported by "
+                + getClass().getName());
+    }
+
+    /**
+     * Resolves given dependencies the same way as {@link #resolveDependencies(List, MavenResolutionStrategy)}, but aborts
+     * the resolution, including transfers in progress, as soon as {@code cancelled} returns {@code true}. The default
+     * implementation checks {@code cancelled} only before the resolution starts.
+     *
+     * @param dependencies Dependencies to be resolved
+     * @param strategy Strategy of the resolution
+     * @param cancelled Tells whether the resolution was cancelled, it is called concurrently by transfer threads
+     * @return Resolved artifacts
+     * @throws ResolutionException If dependencies could not be resolved or if the resolution was cancelled
+     */
+    default Collection<MavenResolvedArtifact> resolveDependencies(List<MavenDependency> dependencies,
+            MavenResolutionStrategy strategy, BooleanSupplier cancelled) throws ResolutionException {
+        if (cancelled.getAsBoolean()) {
+            throw new ResolutionException("Resolution was cancelled");
+        }
+        return resolveDependencies(dependencies, strategy);
+    }
+
+    /**
+     * Resolves given dependencies the same way as {@link #resolveDependencies(List, MavenResolutionStrategy, BooleanSupplier)},
+     * but also passes every resolved artifact to {@code resolved} as soon as its file is resolved, before the
+     * resolution of the remaining artifacts completes. Each artifact is passed once, in the order the files were
+     * resolved, which may differ from the order of the returned collection.
+     * <p>
+     * The default implementation passes the artifacts to {@code resolved} once the whole resolution completes.
+     *
+     * @param dependencies Dependencies to be resolved
+     * @param strategy Strategy of the resolution
+     * @param cancelled Tells whether the resolution was cancelled, it is called concurrently by transfer threads
+     * @param resolved Consumer of resolved artifacts, it might be called concurrently by resolving threads
+     * @return Resolved artifacts
+     * @throws ResolutionException If dependencies could not be resolved or if the resolution was cancelled
+     */
+    default Collection<MavenResolvedArtifact> resolveDependencies(List<MavenDependency> dependencies,
+            MavenResolutionStrategy strategy, BooleanSupplier cancelled,
+            Consumer<? super MavenResolvedArtifact> resolved) throws ResolutionException {
+        final Collection<MavenResolvedArtifact> artifacts = resolveDependencies(dependencies, strategy, cancelled);
+        artifacts.forEach(resolved);
+        return artifacts;
+    }
+
     /**
      * Resolves version range request for given coordinate
      *
@@ -132,6 +197,61 @@ public interface MavenWorkingSession {
      */
     void useLegacyLocalRepository(boolean useLegacyLocalRepository);
 
+    /**
+     * Sets number of threads used to download artifacts and their metadata from remote repositories. The default
+     * implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param threads Number of concurrent downloads, must be positive
+     * @throws IllegalArgumentException If {@code threads} is not positive
+     * @throws UnsupportedOperationException If the session does not support parallel downloads
+     */
+    default void setParallelDownloads(int threads) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Parallel downloads are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Sets whether worker threads started by this session, such as those resolving batches of dependency sets, are
+     * virtual threads. Virtual threads are used only on JVMs supporting them. The default implementation throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param virtualThreads Whether to use virtual threads
+     * @throws UnsupportedOperationException If the session does not start worker threads
+     */
+    default void setVirtualThreads(boolean virtualThreads) {
+        throw new UnsupportedOperationException("Virtual threads are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Returns whether worker threads started by this session should be virtual threads. The default implementation
+     * returns {@code false}.
+     *
+     * @return Whether to use virtual threads
+     */
+    default boolean isVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Registers a listener notified about durations of resolution phases and about transferred files. The default
+     * implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param metrics The listener, {@code null} to unregister the current one
+     * @throws UnsupportedOperationException If the session does not report resolution metrics
+     */
+    default void setResolutionMetrics(ResolutionMetrics metrics) {
+        throw new UnsupportedOperationException("Resolution metrics are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Returns the listener notified about durations of resolution phases and about transferred files. The default
+     * implementation returns {@code null}.
+     *
+     * @return The listener or {@code null} if none is registered
+     */
+    default ResolutionMetrics getResolutionMetrics() {
+        return null;
+    }
+
     /**
      * Adds a remote repository to use in resolution.
      *
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.coordinate;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of immutable values. The pool references values weakly, so a value is dropped from the
+ * pool once no one else uses it.
+ * <p>
+ * Coordinates, dependencies and exclusions created by {@link MavenCoordinates} and {@link MavenDependencies} are pooled
+ * if {@code org.jboss.shrinkwrap.resolver.maven.poolCoordinates} system property is set. Large dependency graphs then
+ * share one instance of every coordinate instead of retaining many equal copies. Keys must describe values completely,
+ * as equality of coordinates does not consider their version.
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ */
+final class Interner<K, V> {
+
+    /**
+     * Enables pooling of coordinates, dependencies and exclusions
+     */
+    static final String POOL_COORDINATES_KEY = "org.jboss.shrinkwrap.resolver.maven.poolCoordinates";
+
+    private static final boolean ENABLED = Boolean.getBoolean(POOL_COORDINATES_KEY);
+
+    private final ConcurrentMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns whether coordinates are pooled
+     *
+     * @return {@code true} if coordinates are pooled
+     */
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the pooled value with given key, given value is pooled if there is none
+     *
+     * @param key Key describing the value completely
+     * @param value The value
+     * @return The pooled value
+     */
+    V intern(final K key, final V value) {
+        expungeStaleEntries();
+        final Entry<K, V> pooled = entries.get(key);
+        if (pooled != null) {
+            final V existing = pooled.get();
+            if (existing != null) {
+                return existing;
+            }
+        }
+        final Entry<K, V> created = new Entry<>(key, value, queue);
+        while (true) {
+            final Entry<K, V> entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                return value;
+            }
+            final V existing = entry.get();
+            if (existing != null) {
+                return existing;
+            }
+            if (entries.replace(key, entry, created)) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns number of pooled values, including values which were already garbage collected
+     *
+     * @return Number of pooled values
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends V> reference;
+        while ((reference = queue.poll()) != null) {
+            final Entry<?, ?> entry = (Entry<?, ?>) reference;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+        private final K key;
+
+        private Entry(final K key, final V value, final ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
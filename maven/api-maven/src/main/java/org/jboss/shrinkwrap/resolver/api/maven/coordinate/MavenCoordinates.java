@@ -16,8 +16,8 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven.coordinate;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
 import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
@@ -29,6 +29,8 @@ import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
  */
 public final class MavenCoordinates {
 
+    private static final Interner<List<Object>, MavenCoordinate> COORDINATES = new Interner<>();
+
     /**
      * No instances
      */
@@ -58,7 +60,8 @@ public final class MavenCoordinates {
     }
 
     /**
-     * Creates a new {@link MavenCoordinate} instance from the specified arguments
+     * Creates a new {@link MavenCoordinate} instance from the specified arguments. If coordinates are pooled, see
+     * {@link Interner}, an equal instance created earlier might be returned instead.
      *
      * @param groupId A groupId of the new {@link MavenCoordinate} instance
      * @param artifactId An artifactId of the new {@link MavenCoordinate} instance
@@ -79,28 +82,37 @@ public final class MavenCoordinates {
         }
         final MavenCoordinateImpl coordinate = new MavenCoordinateImpl(groupId, artifactId, version, packaging,
             classifier);
+        if (Interner.isEnabled()) {
+            return COORDINATES.intern(Arrays.asList(coordinate.getGroupId(), coordinate.getArtifactId(),
+                coordinate.getVersion(), coordinate.getPackaging(), coordinate.getClassifier()), coordinate);
+        }
         return coordinate;
     }
 
     /**
      * Parser to obtain {@link MavenCoordinate} instances from the canonical {@link String} form
      * <code><groupId>:<artifactId>[:<packagingType>[:<classifier>]]:(<version>|'?')</code>
+     * <p>
+     * The canonical form is scanned once, without regular expressions. If
+     * {@code org.jboss.shrinkwrap.resolver.maven.internCoordinates} system property is set, groupId, artifactId and
+     * version are interned, which saves memory if many coordinates of the same artifacts are parsed.
      *
      * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
      * @author <a href="mailto:alr@jboss.org">Andrew Lee Rubinger</a>
      */
     static class MavenCoordinateParser {
 
-        private static final Pattern DEPENDENCY_PATTERN = Pattern
-            .compile("([^: ]+):([^: ]+)(:([^: ]*)(:([^: ]+))?)?(:([^: ]+))?");
+        /**
+         * Interns groupId, artifactId and version of parsed coordinates
+         */
+        static final String INTERN_COORDINATES_KEY = "org.jboss.shrinkwrap.resolver.maven.internCoordinates";
+
+        private static final boolean INTERN = Boolean.getBoolean(INTERN_COORDINATES_KEY);
 
         private static final String EMPTY_STRING = "";
 
-        private static final int IS_POS_1 = 1;
-        private static final int ID_POS_2 = 2;
-        private static final int ID_POS_3 = 4;
-        private static final int ID_POS_4 = 6;
-        private static final int ID_POS_5 = 8;
+        // a canonical form contains at most 4 separators
+        private static final int MAX_SEPARATORS = 4;
 
         private String groupId;
         private String artifactId;
@@ -118,40 +130,72 @@ public final class MavenCoordinates {
 
         static MavenCoordinateParser parse(final String coordinates) throws CoordinateParseException {
 
-            final Matcher m = DEPENDENCY_PATTERN.matcher(coordinates);
-            if (!m.matches()) {
-                throw new CoordinateParseException("Bad artifact coordinates"
-                    + ", expected format is <groupId>:<artifactId>[:<packagingType>[:<classifier>]]:(<version>|'?'), got: "
-                    + coordinates);
+            // positions of separators, segments between them are validated as they are found
+            int noOfColons = 0;
+            int colon1 = -1;
+            int colon2 = -1;
+            int colon3 = -1;
+            int colon4 = -1;
+            int segmentStart = 0;
+            final int length = coordinates.length();
+            for (int i = 0; i < length; i++) {
+                final char c = coordinates.charAt(i);
+                if (c == ' ') {
+                    throw badCoordinates(coordinates);
+                }
+                if (c != MavenGABaseImpl.SEPARATOR_COORDINATE) {
+                    continue;
+                }
+                // only packaging type can be empty
+                if (i == segmentStart && noOfColons != 2) {
+                    throw badCoordinates(coordinates);
+                }
+                switch (++noOfColons) {
+                    case 1:
+                        colon1 = i;
+                        break;
+                    case 2:
+                        colon2 = i;
+                        break;
+                    case 3:
+                        colon3 = i;
+                        break;
+                    case MAX_SEPARATORS:
+                        colon4 = i;
+                        break;
+                    default:
+                        throw badCoordinates(coordinates);
+                }
+                segmentStart = i + 1;
+            }
+            // artifactId is required and so is the last segment, unless it is the version following artifactId
+            if (noOfColons == 0 || (segmentStart == length && noOfColons != 2)) {
+                throw badCoordinates(coordinates);
             }
 
             final MavenCoordinateParser parser = new MavenCoordinateParser();
-
-            parser.groupId = m.group(IS_POS_1);
-            parser.artifactId = m.group(ID_POS_2);
-
-            final String position3 = m.group(ID_POS_3);
-            final String position4 = m.group(ID_POS_4);
-            final String position5 = m.group(ID_POS_5);
-
-            // some logic with numbers of provided groups
-            final int noOfColons = numberOfOccurrences(coordinates, MavenGABaseImpl.SEPARATOR_COORDINATE);
+            parser.groupId = intern(coordinates.substring(0, colon1));
 
             // Parsing is segment-dependent
             switch (noOfColons) {
+                case 1:
+                    parser.artifactId = intern(coordinates.substring(colon1 + 1));
+                    parser.classifier = null;
+                    break;
                 case 2:
-                    parser.version = position3;
+                    parser.artifactId = intern(coordinates.substring(colon1 + 1, colon2));
+                    parser.version = intern(coordinates.substring(colon2 + 1));
                     break;
                 case 3:
-                    parser.type = (position3 == null || position3.isEmpty()) ? PackagingType.JAR
-                        : toPackagingType(position3);
-                    parser.version = position4;
+                    parser.artifactId = intern(coordinates.substring(colon1 + 1, colon2));
+                    parser.type = toPackagingType(coordinates, colon2 + 1, colon3);
+                    parser.version = intern(coordinates.substring(colon3 + 1));
                     break;
                 default:
-                    parser.type = (position3 == null || position3.isEmpty()) ? PackagingType.JAR
-                        : toPackagingType(position3);
-                    parser.classifier = position4;
-                    parser.version = position5;
+                    parser.artifactId = intern(coordinates.substring(colon1 + 1, colon2));
+                    parser.type = toPackagingType(coordinates, colon2 + 1, colon3);
+                    parser.classifier = coordinates.substring(colon3 + 1, colon4);
+                    parser.version = intern(coordinates.substring(colon4 + 1));
             }
 
             return parser;
@@ -177,14 +221,18 @@ public final class MavenCoordinates {
             return artifactId;
         }
 
-        private static int numberOfOccurrences(final CharSequence haystack, char needle) {
-            int counter = 0;
-            for (int i = 0; i < haystack.length(); i++) {
-                if (haystack.charAt(i) == needle) {
-                    counter++;
-                }
-            }
-            return counter;
+        private static CoordinateParseException badCoordinates(final String coordinates) {
+            return new CoordinateParseException("Bad artifact coordinates"
+                + ", expected format is <groupId>:<artifactId>[:<packagingType>[:<classifier>]]:(<version>|'?'), got: "
+                + coordinates);
+        }
+
+        private static String intern(final String value) {
+            return INTERN ? value.intern() : value;
+        }
+
+        private static PackagingType toPackagingType(final String coordinates, final int start, final int end) {
+            return start == end ? PackagingType.JAR : toPackagingType(coordinates.substring(start, end));
         }
 
         private static PackagingType toPackagingType(final String type) {
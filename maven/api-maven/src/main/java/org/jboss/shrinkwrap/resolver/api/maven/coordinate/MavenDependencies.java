@@ -17,6 +17,8 @@
 package org.jboss.shrinkwrap.resolver.api.maven.coordinate;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.StringTokenizer;
 
@@ -44,6 +46,9 @@ public final class MavenDependencies {
         }
     }
 
+    private static final Interner<List<Object>, MavenDependency> DEPENDENCIES = new Interner<>();
+    private static final Interner<List<Object>, MavenDependencyExclusion> EXCLUSIONS = new Interner<>();
+
     /**
      * No instances
      */
@@ -51,6 +56,15 @@ public final class MavenDependencies {
         throw new UnsupportedOperationException("No instances permitted");
     }
 
+    /**
+     * Returns whether equal dependencies created by this factory share a single instance, see {@link Interner}
+     *
+     * @return {@code true} if dependencies are pooled
+     */
+    public static boolean isPooled() {
+        return Interner.isEnabled();
+    }
+
     /**
      * Creates a new {@link MavenDependency} instance from the specified, required canonical form in format
      * {@code <groupId>:<artifactId>[:<packagingType>[:<classifier>]][:<version>]}, with the additional, optional
@@ -79,7 +93,8 @@ public final class MavenDependencies {
 
     /**
      * Creates a new {@link MavenDependency} instance from the specified properties. If no {@link ScopeType} is
-     * specified, default will be {@link ScopeType#COMPILE}.
+     * specified, default will be {@link ScopeType#COMPILE}. If coordinates are pooled, see {@link Interner}, an equal
+     * instance created earlier might be returned instead.
      *
      * @param coordinate A coordinate of the new {@link MavenDependency} instance.
      * @param scope A scope of the new {@link MavenDependency} instance. Default will be {@link ScopeType#COMPILE}.
@@ -98,6 +113,11 @@ public final class MavenDependencies {
             throw new IllegalArgumentException("coordinate form is required");
         }
         final MavenDependency dep = newInstance(coordinate, scope, optional, exclusions);
+        // equality of dependencies depends on the class of their coordinate, only coordinates of this API are pooled
+        if (Interner.isEnabled() && coordinate.getClass() == MavenCoordinateImpl.class) {
+            return DEPENDENCIES.intern(Arrays.asList(dep.getGroupId(), dep.getArtifactId(), dep.getVersion(),
+                dep.getPackaging(), dep.getClassifier(), dep.getScope(), dep.isOptional(), dep.getExclusions()), dep);
+        }
         return dep;
     }
 
@@ -174,6 +194,9 @@ public final class MavenDependencies {
             throw new IllegalArgumentException("groupId must be specified");
         }
         final MavenDependencyExclusion exclusion = new MavenDependencyExclusionImpl(groupId, artifactId);
+        if (Interner.isEnabled()) {
+            return EXCLUSIONS.intern(Arrays.asList(groupId, artifactId), exclusion);
+        }
         return exclusion;
     }
 
@@ -16,6 +16,7 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven.filter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -84,4 +85,14 @@ public class RejectDependenciesFilter implements MavenResolutionFilter {
         return true;
     }
 
+    @Override
+    public String toString() {
+        final List<String> banned = new ArrayList<>(bannedDependencies.size());
+        for (final MavenDependency dependency : bannedDependencies) {
+            banned.add(dependency.toCanonicalForm());
+        }
+        Collections.sort(banned);
+        return "RejectDependenciesFilter [rejectTransitives=" + rejectTransitives + ", bannedDependencies=" + banned + "]";
+    }
+
 }
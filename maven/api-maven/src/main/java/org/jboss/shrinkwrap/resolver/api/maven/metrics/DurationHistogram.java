@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe histogram of durations. Durations are counted in buckets whose bounds are powers of two nanoseconds, so
+ * percentiles are reported as the upper bound of the bucket they fall into.
+ */
+public class DurationHistogram {
+
+    private final long[] buckets = new long[Long.SIZE];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records a duration
+     *
+     * @param durationNanos Duration in nanoseconds, negative values are recorded as zero
+     */
+    public synchronized void record(final long durationNanos) {
+        final long duration = Math.max(0L, durationNanos);
+        buckets[Long.SIZE - 1 - Long.numberOfLeadingZeros(duration | 1L)]++;
+        count++;
+        total += duration;
+        min = Math.min(min, duration);
+        max = Math.max(max, duration);
+    }
+
+    /**
+     * Returns number of recorded durations
+     *
+     * @return Number of recorded durations
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns sum of recorded durations
+     *
+     * @return Sum of recorded durations in nanoseconds
+     */
+    public synchronized long getTotalNanos() {
+        return total;
+    }
+
+    /**
+     * Returns the shortest recorded duration
+     *
+     * @return The shortest duration in nanoseconds or {@code 0} if nothing was recorded
+     */
+    public synchronized long getMinNanos() {
+        return count == 0 ? 0L : min;
+    }
+
+    /**
+     * Returns the longest recorded duration
+     *
+     * @return The longest duration in nanoseconds or {@code 0} if nothing was recorded
+     */
+    public synchronized long getMaxNanos() {
+        return max;
+    }
+
+    /**
+     * Returns mean of recorded durations
+     *
+     * @return Mean duration in nanoseconds or {@code 0} if nothing was recorded
+     */
+    public synchronized long getMeanNanos() {
+        return count == 0 ? 0L : total / count;
+    }
+
+    /**
+     * Returns an upper estimate of the given percentile of recorded durations
+     *
+     * @param percentile Percentile between {@code 0} and {@code 100}
+     * @return Duration in nanoseconds which is not exceeded by the given percentage of recorded durations, or {@code 0}
+     *         if nothing was recorded
+     * @throws IllegalArgumentException If percentile is out of range
+     */
+    public synchronized long getPercentileNanos(final double percentile) throws IllegalArgumentException {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, was " + percentile);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                // upper bound of the bucket, but never more than what was actually recorded
+                final long upperBound = i == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets all recorded durations
+     */
+    public synchronized void reset() {
+        Arrays.fill(buckets, 0L);
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "count=" + count + ", total=" + millis(total) + ", mean=" + millis(getMeanNanos()) + ", p50<="
+            + millis(getPercentileNanos(50)) + ", p99<=" + millis(getPercentileNanos(99)) + ", max=" + millis(max);
+    }
+
+    private static String millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link ResolutionMetrics} aggregating durations of phases and transfers into in-memory histograms and summing
+ * transferred bytes per repository and per artifact. An instance can be shared by multiple resolvers.
+ *
+ * <pre>
+ * InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+ * Maven.configureResolver().withResolutionMetrics(metrics).resolve(...).withTransitivity().asFile();
+ * System.out.println(metrics);
+ * </pre>
+ */
+public class InMemoryResolutionMetrics implements ResolutionMetrics {
+
+    private final Map<ResolutionPhase, DurationHistogram> phases;
+    private final DurationHistogram transfers = new DurationHistogram();
+    private final ConcurrentMap<String, LongAdder> bytesPerRepository = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> bytesPerArtifact = new ConcurrentHashMap<>();
+
+    public InMemoryResolutionMetrics() {
+        final Map<ResolutionPhase, DurationHistogram> histograms = new EnumMap<>(ResolutionPhase.class);
+        for (ResolutionPhase phase : ResolutionPhase.values()) {
+            histograms.put(phase, new DurationHistogram());
+        }
+        this.phases = Collections.unmodifiableMap(histograms);
+    }
+
+    @Override
+    public void phaseCompleted(final ResolutionPhase phase, final long durationNanos) {
+        phases.get(phase).record(durationNanos);
+    }
+
+    @Override
+    public void transferCompleted(final String repository, final String resource, final long bytes,
+        final long durationNanos) {
+        transfers.record(durationNanos);
+        bytesPerRepository.computeIfAbsent(repository, key -> new LongAdder()).add(bytes);
+        bytesPerArtifact.computeIfAbsent(resource, key -> new LongAdder()).add(bytes);
+    }
+
+    /**
+     * Returns durations of the given phase
+     *
+     * @param phase The phase
+     * @return Histogram of durations of the phase
+     */
+    public DurationHistogram getPhase(final ResolutionPhase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * Returns durations of transfers
+     *
+     * @return Histogram of durations of all transfers
+     */
+    public DurationHistogram getTransfers() {
+        return transfers;
+    }
+
+    /**
+     * Returns number of bytes downloaded from each repository
+     *
+     * @return Snapshot of transferred bytes, identified by ID of the repository
+     */
+    public SortedMap<String, Long> getBytesPerRepository() {
+        return snapshot(bytesPerRepository);
+    }
+
+    /**
+     * Returns number of bytes downloaded for each artifact, including POM files and metadata
+     *
+     * @return Snapshot of transferred bytes, identified by path of the file in the repository
+     */
+    public SortedMap<String, Long> getBytesPerArtifact() {
+        return snapshot(bytesPerArtifact);
+    }
+
+    /**
+     * Forgets all recorded metrics
+     */
+    public void reset() {
+        for (DurationHistogram histogram : phases.values()) {
+            histogram.reset();
+        }
+        transfers.reset();
+        bytesPerRepository.clear();
+        bytesPerArtifact.clear();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Resolution metrics:\n");
+        for (Map.Entry<ResolutionPhase, DurationHistogram> phase : phases.entrySet()) {
+            sb.append("  ").append(phase.getKey()).append(": ").append(phase.getValue()).append('\n');
+        }
+        sb.append("  TRANSFERS: ").append(transfers).append('\n');
+        for (Map.Entry<String, Long> repository : getBytesPerRepository().entrySet()) {
+            sb.append("  ").append(repository.getKey()).append(": ").append(repository.getValue()).append(" bytes\n");
+        }
+        return sb.toString();
+    }
+
+    private static SortedMap<String, Long> snapshot(final Map<String, LongAdder> bytes) {
+        final SortedMap<String, Long> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : bytes.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        return snapshot;
+    }
+}
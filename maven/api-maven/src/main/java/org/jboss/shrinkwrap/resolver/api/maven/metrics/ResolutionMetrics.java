@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+/**
+ * Listener notified about durations of resolution phases and about transferred files. Methods are called synchronously
+ * by threads doing the resolution, possibly concurrently, so implementations must be thread-safe and fast.
+ *
+ * @see InMemoryResolutionMetrics
+ */
+public interface ResolutionMetrics {
+
+    /**
+     * Called whenever a phase of the resolution completes, either successfully or not
+     *
+     * @param phase The phase
+     * @param durationNanos Duration of the phase in nanoseconds
+     */
+    void phaseCompleted(ResolutionPhase phase, long durationNanos);
+
+    /**
+     * Called whenever a file, such as an artifact, a POM file or metadata, was successfully downloaded from a remote
+     * repository
+     *
+     * @param repository ID of the remote repository
+     * @param resource Path of the file relative to the repository root
+     * @param bytes Number of transferred bytes
+     * @param durationNanos Duration of the transfer in nanoseconds
+     */
+    void transferCompleted(String repository, String resource, long bytes, long durationNanos);
+}
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+/**
+ * Phases of the resolution reported to {@link ResolutionMetrics}
+ */
+public enum ResolutionPhase {
+    /**
+     * Building of Maven settings from settings.xml files
+     */
+    SETTINGS_BUILDING,
+    /**
+     * Building of the effective model of a POM file loaded by the resolver
+     */
+    MODEL_BUILDING,
+    /**
+     * Lookup of artifacts in the Maven 4 project-local repository
+     */
+    PROJECT_LOCAL_LOOKUP,
+    /**
+     * Collection of the dependency graph, including download of POM files
+     */
+    DEPENDENCY_COLLECTION,
+    /**
+     * Resolution of artifacts of the collected graph, including their download
+     */
+    ARTIFACT_RESOLUTION,
+    /**
+     * Filtering of resolved artifacts according to the resolution strategy
+     */
+    POST_RESOLUTION_FILTERING
+}
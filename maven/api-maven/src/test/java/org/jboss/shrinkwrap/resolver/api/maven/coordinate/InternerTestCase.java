@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.coordinate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies pooling of coordinates by {@link Interner}
+ */
+class InternerTestCase {
+
+    @Test
+    void equalValuesShareInstance() {
+        final Interner<List<Object>, MavenCoordinate> interner = new Interner<>();
+        final MavenCoordinate first = interner.intern(key("1.0"), coordinate("1.0"));
+        final MavenCoordinate second = interner.intern(key("1.0"), coordinate("1.0"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, interner.size());
+    }
+
+    @Test
+    void versionIsPartOfKey() {
+        final Interner<List<Object>, MavenCoordinate> interner = new Interner<>();
+        final MavenCoordinate first = interner.intern(key("1.0"), coordinate("1.0"));
+        final MavenCoordinate second = interner.intern(key("2.0"), coordinate("2.0"));
+
+        // coordinates are equal regardless of their version, yet they are different values
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("2.0", second.getVersion());
+    }
+
+    private static List<Object> key(final String version) {
+        return Arrays.asList("org.acme", "api", version, PackagingType.JAR, "");
+    }
+
+    private static MavenCoordinate coordinate(final String version) {
+        return new MavenCoordinateImpl("org.acme", "api", version, PackagingType.JAR, "");
+    }
+}
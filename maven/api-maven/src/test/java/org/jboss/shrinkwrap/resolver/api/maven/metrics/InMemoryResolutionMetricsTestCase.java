@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ensures that {@link InMemoryResolutionMetrics} aggregates reported durations and transferred bytes
+ */
+class InMemoryResolutionMetricsTestCase {
+
+    @Test
+    void aggregatesPhaseDurations() {
+        final InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        metrics.phaseCompleted(ResolutionPhase.MODEL_BUILDING, 1000L);
+        metrics.phaseCompleted(ResolutionPhase.MODEL_BUILDING, 3000L);
+        metrics.phaseCompleted(ResolutionPhase.DEPENDENCY_COLLECTION, 500L);
+
+        final DurationHistogram modelBuilding = metrics.getPhase(ResolutionPhase.MODEL_BUILDING);
+        Assertions.assertEquals(2L, modelBuilding.getCount());
+        Assertions.assertEquals(4000L, modelBuilding.getTotalNanos());
+        Assertions.assertEquals(1000L, modelBuilding.getMinNanos());
+        Assertions.assertEquals(3000L, modelBuilding.getMaxNanos());
+        Assertions.assertEquals(2000L, modelBuilding.getMeanNanos());
+        Assertions.assertEquals(1L, metrics.getPhase(ResolutionPhase.DEPENDENCY_COLLECTION).getCount());
+        Assertions.assertEquals(0L, metrics.getPhase(ResolutionPhase.ARTIFACT_RESOLUTION).getCount());
+    }
+
+    @Test
+    void sumsTransferredBytes() {
+        final InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        metrics.transferCompleted("central", "org/acme/a/1.0/a-1.0.jar", 100L, 10L);
+        metrics.transferCompleted("central", "org/acme/b/1.0/b-1.0.jar", 50L, 10L);
+        metrics.transferCompleted("jboss", "org/acme/a/1.0/a-1.0.jar", 100L, 10L);
+
+        Assertions.assertEquals(3L, metrics.getTransfers().getCount());
+        Assertions.assertEquals(Long.valueOf(150L), metrics.getBytesPerRepository().get("central"));
+        Assertions.assertEquals(Long.valueOf(100L), metrics.getBytesPerRepository().get("jboss"));
+        Assertions.assertEquals(Long.valueOf(200L), metrics.getBytesPerArtifact().get("org/acme/a/1.0/a-1.0.jar"));
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.getTransfers().getCount());
+        Assertions.assertTrue(metrics.getBytesPerRepository().isEmpty());
+    }
+
+    @Test
+    void estimatesPercentiles() {
+        final DurationHistogram histogram = new DurationHistogram();
+        Assertions.assertEquals(0L, histogram.getPercentileNanos(99));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        // percentiles are upper bounds of power of two buckets, capped by the longest duration
+        final long median = histogram.getPercentileNanos(50);
+        Assertions.assertTrue(median >= 50000L && median < 100000L, "Median estimate was " + median);
+        Assertions.assertEquals(100000L, histogram.getPercentileNanos(100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+}
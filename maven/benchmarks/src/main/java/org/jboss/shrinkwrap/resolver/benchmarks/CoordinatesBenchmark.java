@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing of canonical forms of coordinates and dependencies, every invocation parses a mix of all supported
+ * forms. {@link #createCoordinateWithRegex(Blackhole)} parses them by the regular expression the parser used to be
+ * based on, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CoordinatesBenchmark {
+
+    private static final int FORMS = 1000;
+
+    private static final Pattern DEPENDENCY_PATTERN = Pattern
+            .compile("([^: ]+):([^: ]+)(:([^: ]*)(:([^: ]+))?)?(:([^: ]+))?");
+
+    private String[] canonicalForms;
+
+    @Setup
+    public void createCanonicalForms() {
+        canonicalForms = new String[FORMS];
+        for (int i = 0; i < FORMS; i++) {
+            switch (i % 4) {
+                case 0:
+                    canonicalForms[i] = "org.jboss.shrinkwrap.benchmark:artifact-" + i + ":1." + i;
+                    break;
+                case 1:
+                    canonicalForms[i] = "org.jboss.shrinkwrap.benchmark:artifact-" + i + ":jar:1." + i;
+                    break;
+                case 2:
+                    canonicalForms[i] = "org.jboss.shrinkwrap.benchmark:artifact-" + i + ":test-jar:tests:1." + i;
+                    break;
+                default:
+                    canonicalForms[i] = "org.jboss.shrinkwrap.benchmark:artifact-" + i + ":pom:1." + i;
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void createCoordinate(final Blackhole blackhole) {
+        for (String canonicalForm : canonicalForms) {
+            blackhole.consume(MavenCoordinates.createCoordinate(canonicalForm));
+        }
+    }
+
+    @Benchmark
+    public void createDependency(final Blackhole blackhole) {
+        for (String canonicalForm : canonicalForms) {
+            blackhole.consume(MavenDependencies.createDependency(canonicalForm, ScopeType.COMPILE, false));
+        }
+    }
+
+    @Benchmark
+    public void createCoordinateWithRegex(final Blackhole blackhole) {
+        for (String canonicalForm : canonicalForms) {
+            final Matcher m = DEPENDENCY_PATTERN.matcher(canonicalForm);
+            if (!m.matches()) {
+                throw new IllegalStateException(canonicalForm);
+            }
+            int noOfColons = 0;
+            for (int i = 0; i < canonicalForm.length(); i++) {
+                if (canonicalForm.charAt(i) == ':') {
+                    noOfColons++;
+                }
+            }
+            switch (noOfColons) {
+                case 2:
+                    blackhole.consume(MavenCoordinates.createCoordinate(m.group(1), m.group(2), m.group(4),
+                            PackagingType.JAR, ""));
+                    break;
+                case 3:
+                    blackhole.consume(MavenCoordinates.createCoordinate(m.group(1), m.group(2), m.group(6),
+                            PackagingType.of(m.group(4)), ""));
+                    break;
+                default:
+                    blackhole.consume(MavenCoordinates.createCoordinate(m.group(1), m.group(2), m.group(8),
+                            PackagingType.of(m.group(4)), m.group(6)));
+            }
+        }
+    }
+}
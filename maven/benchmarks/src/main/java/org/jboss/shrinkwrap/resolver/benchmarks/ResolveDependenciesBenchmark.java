@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.DependencyGraphCache;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.maven.testsupport.SyntheticRepository;
+import org.jboss.shrinkwrap.resolver.maven.testsupport.SyntheticRepositoryGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures transitive resolution of a generated {@code file://} repository, from creating the resolver to getting
+ * resolved artifacts. Artifacts are downloaded to the local repository by the first invocation, so the benchmark
+ * measures resolution overhead rather than file copying. Graphs of growing size show how resolution scales, a tenth of
+ * dependencies declares a version range and a twentieth of nodes is in a version conflict or has a classified artifact.
+ * Graphs with version ranges are never cached, so no ranges are generated when the dependency graph cache is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResolveDependenciesBenchmark {
+
+    @Param({ "10", "1000", "10000", "50000" })
+    private int nodes;
+
+    @Param({ "true", "false" })
+    private boolean dependencyGraphCache;
+
+    private Path directory;
+    private SyntheticRepository repository;
+
+    @Setup
+    public void writeRepository() throws IOException {
+        directory = Files.createTempDirectory("swr-resolve-benchmark");
+        repository = new SyntheticRepositoryGenerator().nodes(nodes).fanOut(5)
+                .versionRanges(dependencyGraphCache ? 0 : 0.1).conflicts(0.05).classifiers(0.05).bom(true)
+                .generate(directory.resolve("remote"));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION,
+                directory.resolve("local").toString());
+        System.setProperty(DependencyGraphCache.ENABLE_DEPENDENCY_GRAPH_CACHE_KEY, String.valueOf(dependencyGraphCache));
+    }
+
+    @Setup(Level.Invocation)
+    public void clearDependencyGraphCache() {
+        if (!dependencyGraphCache) {
+            MavenRepositorySystem.getDependencyGraphCache().clear();
+        }
+    }
+
+    @TearDown
+    public void deleteRepository() throws IOException {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        System.clearProperty(DependencyGraphCache.ENABLE_DEPENDENCY_GRAPH_CACHE_KEY);
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public MavenResolvedArtifact[] resolveDependencies() {
+        return Maven.configureResolver()
+                .withClassPathResolution(false)
+                .withMavenCentralRepo(false)
+                .withRemoteRepo(repository.asRemoteRepository("synthetic"))
+                .resolve(repository.getRoot())
+                .withTransitivity()
+                .asResolvedArtifact();
+    }
+}
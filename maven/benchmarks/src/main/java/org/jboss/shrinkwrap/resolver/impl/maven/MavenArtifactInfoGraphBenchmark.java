@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures conversion of a wide dependency graph to resolved artifacts, with all their dependencies materialized. The
+ * graph has {@code levels} levels of {@code width} artifacts and every artifact depends on all artifacts of the next
+ * level. {@code eager} methods convert the graph the way it was converted before dependencies were shared, every
+ * resolved artifact getting its own copy of the whole subtree.
+ * <p>
+ * {@code RetainedHeap} methods report heap retained by the resolved artifacts as {@code retainedBytes} counter. They
+ * trigger garbage collection, so their times are not meaningful.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MavenArtifactInfoGraphBenchmark {
+
+    @Param({ "10", "20" })
+    private int width;
+
+    @Param({ "4" })
+    private int levels;
+
+    private List<ArtifactResult> results;
+
+    /**
+     * Heap retained by resolved artifacts
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void createGraph() {
+        results = new ArrayList<>(width * levels);
+        List<DependencyNode> nextLevel = Collections.emptyList();
+        for (int level = levels - 1; level >= 0; level--) {
+            final List<DependencyNode> nodes = new ArrayList<>(width);
+            for (int i = 0; i < width; i++) {
+                final String artifactId = "artifact-" + level + "-" + i;
+                final DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(new DefaultArtifact(
+                        "org.jboss.shrinkwrap.benchmark", artifactId, "jar", "1.0").setFile(new File(artifactId
+                                + "-1.0.jar")), "compile"));
+                node.setChildren(nextLevel);
+                nodes.add(node);
+
+                final ArtifactResult result = new ArtifactResult(new ArtifactRequest(node));
+                result.setArtifact(node.getArtifact());
+                results.add(result);
+            }
+            nextLevel = nodes;
+        }
+    }
+
+    @Benchmark
+    public List<MavenResolvedArtifact> shared() {
+        final ArtifactInfoGraph graph = new ArtifactInfoGraph();
+        final List<MavenResolvedArtifact> artifacts = new ArrayList<>(results.size());
+        final Set<MavenArtifactInfo> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ArtifactResult result : results) {
+            final MavenResolvedArtifact artifact = MavenResolvedArtifactImpl.fromArtifactResult(result, graph);
+            materialize(artifact, visited);
+            artifacts.add(artifact);
+        }
+        return artifacts;
+    }
+
+    @Benchmark
+    public List<MavenArtifactInfo> eager() {
+        final List<MavenArtifactInfo> artifacts = new ArrayList<>(results.size());
+        for (ArtifactResult result : results) {
+            artifacts.add(eagerCopy(result.getRequest().getDependencyNode()));
+        }
+        return artifacts;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object sharedRetainedHeap(final RetainedHeap heap) {
+        final long before = usedHeap();
+        final Object artifacts = shared();
+        heap.retainedBytes = usedHeap() - before;
+        return artifacts;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object eagerRetainedHeap(final RetainedHeap heap) {
+        final long before = usedHeap();
+        final Object artifacts = eager();
+        heap.retainedBytes = usedHeap() - before;
+        return artifacts;
+    }
+
+    private static void materialize(final MavenArtifactInfo info, final Set<MavenArtifactInfo> visited) {
+        for (MavenArtifactInfo dependency : info.getDependencies()) {
+            if (visited.add(dependency)) {
+                materialize(dependency, visited);
+            }
+        }
+    }
+
+    private static MavenArtifactInfo eagerCopy(final DependencyNode node) {
+        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[node.getChildren().size()];
+        int i = 0;
+        for (DependencyNode child : node.getChildren()) {
+            dependencies[i++] = eagerCopy(child);
+        }
+        final Artifact artifact = node.getArtifact();
+        return new MavenArtifactInfoImpl(MavenCoordinates.createCoordinate(artifact.getGroupId(),
+                artifact.getArtifactId(), artifact.getBaseVersion(), PackagingType.JAR, ""), artifact.getVersion(),
+                artifact.isSnapshot(), artifact.getExtension(), ScopeType.COMPILE, dependencies, false);
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.benchmarks.BenchmarkFiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures conversion of resolved artifacts to the formats requested by users
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MavenFormatStageBenchmark {
+
+    @Param({ "100", "1000" })
+    private int artifacts;
+
+    private Path directory;
+    private MavenFormatStageImpl formatStage;
+
+    @Setup
+    public void createArtifacts() throws IOException {
+        // creating a resolver registers services which provide format processors
+        Maven.resolver();
+
+        directory = Files.createTempDirectory("swr-format-benchmark");
+        final List<MavenResolvedArtifact> resolved = new ArrayList<>(artifacts);
+        for (int i = 0; i < artifacts; i++) {
+            final MavenCoordinate coordinate = MavenCoordinates.createCoordinate("org.jboss.shrinkwrap.benchmark:artifact-"
+                    + i + ":1.0");
+            final File file = Files.createFile(directory.resolve("artifact-" + i + "-1.0.jar")).toFile();
+            resolved.add(new MavenResolvedArtifactImpl(coordinate, coordinate.getVersion(), false, "jar", file,
+                    ScopeType.COMPILE, new MavenArtifactInfo[0], false));
+        }
+        formatStage = new MavenFormatStageImpl(resolved);
+    }
+
+    @TearDown
+    public void deleteArtifacts() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public File[] asFile() {
+        return formatStage.as(File.class);
+    }
+
+    @Benchmark
+    public MavenResolvedArtifact[] asResolvedArtifact() {
+        return formatStage.as(MavenResolvedArtifact.class);
+    }
+
+    @Benchmark
+    public MavenCoordinate[] asCoordinate() {
+        return formatStage.as(MavenCoordinate.class);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filtering done around the resolution itself for projects with many dependencies, such as projects importing
+ * large BOMs. Every tenth artifact is a POM and every tenth dependency is found in the project-local repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PostResolutionFilterBenchmark {
+
+    @Param({ "100", "1500", "5000" })
+    private int dependencies;
+
+    private List<MavenDependency> depsForResolution;
+    private Collection<MavenResolvedArtifact> resolvedArtifacts;
+    private Collection<ArtifactResult> projectLocalDependencies;
+    private ArtifactTypeRegistry registry;
+
+    @Setup
+    public void createDependencies() {
+        depsForResolution = new ArrayList<>(dependencies);
+        resolvedArtifacts = new ArrayList<>(dependencies);
+        projectLocalDependencies = new ArrayList<>(dependencies / 10);
+        for (int i = 0; i < dependencies; i++) {
+            final String packaging = i % 10 == 0 ? "pom" : "jar";
+            final MavenCoordinate coordinate = MavenCoordinates.createCoordinate("org.jboss.shrinkwrap.benchmark:artifact-"
+                    + i + ":" + packaging + ":1.0");
+            depsForResolution.add(MavenDependencies.createDependency(coordinate, ScopeType.COMPILE, false));
+            resolvedArtifacts.add(new MavenResolvedArtifactImpl(coordinate, coordinate.getVersion(), false, packaging,
+                    new File("artifact-" + i + "-1.0." + packaging), ScopeType.COMPILE, new MavenArtifactInfo[0],
+                    false));
+            if (i % 10 == 5) {
+                final ArtifactResult result = new ArtifactResult(new ArtifactRequest());
+                result.setArtifact(new DefaultArtifact("org.jboss.shrinkwrap.benchmark", "artifact-" + i, null, "jar",
+                        "1.0", null, new File("artifact-" + i + "-1.0.jar")));
+                projectLocalDependencies.add(result);
+            }
+        }
+        registry = MavenRepositorySystemUtils.newSession().getArtifactTypeRegistry();
+    }
+
+    @Benchmark
+    public Collection<MavenResolvedArtifact> filter() {
+        return PostResolutionFilter.filter(resolvedArtifacts, depsForResolution, NonTransitiveStrategy.INSTANCE);
+    }
+
+    @Benchmark
+    public List<MavenDependency> filterFromLocal() {
+        return MavenWorkingSessionImpl.filterFromLocal(depsForResolution, projectLocalDependencies, registry);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jboss.shrinkwrap.resolver.benchmarks.BenchmarkFiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures lookups of {@link ClasspathWorkspaceReader} on a surefire-like classpath, half of its entries are archives
+ * and half are {@code target/classes} directories of projects. Every invocation looks up each entry of the classpath
+ * once and the same number of artifacts which are not on the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ClasspathWorkspaceReaderBenchmark {
+
+    private static final String GROUP_ID = "org.jboss.shrinkwrap.benchmark";
+
+    @Param({ "600" })
+    private int entries;
+
+    private Path directory;
+    private Artifact[] lookups;
+    private ClasspathWorkspaceReader reader;
+
+    @Setup
+    public void createClasspath() throws IOException {
+        directory = Files.createTempDirectory("swr-classpath-benchmark");
+        final StringBuilder classPath = new StringBuilder();
+        lookups = new Artifact[entries * 2];
+        for (int i = 0; i < entries; i++) {
+            final String artifactId = "entry-" + i;
+            final File entry;
+            if (i % 2 == 0) {
+                entry = directory.resolve(artifactId + "-1.0.jar").toFile();
+                Files.write(entry.toPath(), new byte[0]);
+                lookups[i] = new DefaultArtifact(GROUP_ID, artifactId, "jar", "1.0");
+            } else {
+                final Path project = directory.resolve(artifactId);
+                entry = project.resolve("target").resolve("classes").toFile();
+                Files.createDirectories(entry.toPath());
+                Files.write(project.resolve("pom.xml"), ("<project><groupId>" + GROUP_ID + "</groupId><artifactId>"
+                        + artifactId + "</artifactId><version>1.0</version></project>").getBytes(StandardCharsets.UTF_8));
+                lookups[i] = new DefaultArtifact(GROUP_ID, artifactId, "pom", "1.0");
+            }
+            lookups[entries + i] = new DefaultArtifact(GROUP_ID, "missing-" + i, "jar", "1.0");
+            if (classPath.length() > 0) {
+                classPath.append(File.pathSeparatorChar);
+            }
+            classPath.append(entry.getAbsolutePath());
+        }
+        System.setProperty(ClasspathWorkspaceReader.SUREFIRE_CLASS_PATH_KEY, classPath.toString());
+
+        reader = new ClasspathWorkspaceReader();
+        reader.findArtifact(lookups[0]);
+    }
+
+    @TearDown
+    public void deleteClasspath() throws IOException {
+        System.clearProperty(ClasspathWorkspaceReader.SUREFIRE_CLASS_PATH_KEY);
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public void findArtifact(final Blackhole blackhole) {
+        for (Artifact artifact : lookups) {
+            blackhole.consume(reader.findArtifact(artifact));
+        }
+    }
+
+    @Benchmark
+    public File indexClasspath() {
+        return new ClasspathWorkspaceReader().findArtifact(lookups[0]);
+    }
+}
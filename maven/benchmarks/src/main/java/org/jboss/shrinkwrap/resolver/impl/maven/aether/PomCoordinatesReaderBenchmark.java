@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathFactory;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jboss.shrinkwrap.resolver.benchmarks.BenchmarkFiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * Compares reading of project coordinates by {@link PomCoordinatesReader} with parsing the whole pom.xml into DOM and
+ * evaluating XPath expressions, which {@link ClasspathWorkspaceReader} used before
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PomCoordinatesReaderBenchmark {
+
+    /**
+     * Number of managed dependencies, dependencies and plugins in the pom.xml
+     */
+    @Param({ "10", "500" })
+    private int size;
+
+    private Path directory;
+    private File pomFile;
+
+    private final PomCoordinatesReader reader = new PomCoordinatesReader();
+
+    private DocumentBuilder documentBuilder;
+    private XPathExpression groupId;
+    private XPathExpression artifactId;
+    private XPathExpression packaging;
+    private XPathExpression version;
+    private XPathExpression parentGroupId;
+    private XPathExpression parentVersion;
+
+    @Setup
+    public void writePom() throws Exception {
+        directory = Files.createTempDirectory("swr-pom-benchmark");
+        pomFile = directory.resolve("pom.xml").toFile();
+        Files.write(pomFile.toPath(), largePom(size).getBytes(StandardCharsets.UTF_8));
+
+        documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        final XPath xPath = XPathFactory.newInstance().newXPath();
+        groupId = xPath.compile("/project/groupId");
+        artifactId = xPath.compile("/project/artifactId");
+        packaging = xPath.compile("/project/packaging");
+        version = xPath.compile("/project/version");
+        parentGroupId = xPath.compile("/project/parent/groupId");
+        parentVersion = xPath.compile("/project/parent/version");
+    }
+
+    @TearDown
+    public void deletePom() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public Artifact stax() throws Exception {
+        return reader.read(pomFile);
+    }
+
+    @Benchmark
+    public Artifact domXPath() throws Exception {
+        final Document pom = documentBuilder.parse(pomFile);
+        String groupId = this.groupId.evaluate(pom);
+        final String artifactId = this.artifactId.evaluate(pom);
+        String packaging = this.packaging.evaluate(pom);
+        String version = this.version.evaluate(pom);
+        if (groupId.isEmpty()) {
+            groupId = parentGroupId.evaluate(pom);
+        }
+        if (packaging.isEmpty()) {
+            packaging = "jar";
+        }
+        if (version.isEmpty()) {
+            version = parentVersion.evaluate(pom);
+        }
+        return new DefaultArtifact(groupId + ":" + artifactId + ":" + packaging + ":" + version);
+    }
+
+    private static String largePom(final int size) {
+        final StringBuilder sb = new StringBuilder(512 * size)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <parent>\n")
+                .append("    <groupId>org.jboss.shrinkwrap.benchmark</groupId>\n")
+                .append("    <artifactId>parent</artifactId>\n")
+                .append("    <version>1.0</version>\n")
+                .append("  </parent>\n")
+                .append("  <artifactId>large</artifactId>\n")
+                .append("  <packaging>jar</packaging>\n")
+                .append("  <name>Large project</name>\n")
+                .append("  <properties>\n");
+        for (int i = 0; i < size; i++) {
+            sb.append("    <version.dependency-").append(i).append(">1.").append(i).append("</version.dependency-")
+                    .append(i).append(">\n");
+        }
+        sb.append("  </properties>\n").append("  <dependencyManagement>\n").append("    <dependencies>\n");
+        for (int i = 0; i < size; i++) {
+            appendDependency(sb, "      ", i, "<version>${version.dependency-" + i + "}</version>");
+        }
+        sb.append("    </dependencies>\n").append("  </dependencyManagement>\n").append("  <dependencies>\n");
+        for (int i = 0; i < size; i++) {
+            appendDependency(sb, "    ", i, "<scope>test</scope>");
+        }
+        sb.append("  </dependencies>\n").append("  <build>\n").append("    <plugins>\n");
+        for (int i = 0; i < size; i++) {
+            sb.append("      <plugin>\n")
+                    .append("        <artifactId>plugin-").append(i).append("</artifactId>\n")
+                    .append("        <configuration><skip>false</skip></configuration>\n")
+                    .append("      </plugin>\n");
+        }
+        return sb.append("    </plugins>\n").append("  </build>\n").append("</project>\n").toString();
+    }
+
+    private static void appendDependency(final StringBuilder sb, final String indent, final int index,
+            final String extra) {
+        sb.append(indent).append("<dependency>\n")
+                .append(indent).append("  <groupId>org.jboss.shrinkwrap.benchmark</groupId>\n")
+                .append(indent).append("  <artifactId>dependency-").append(index).append("</artifactId>\n")
+                .append(indent).append("  ").append(extra).append('\n')
+                .append(indent).append("</dependency>\n");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.AcceptAllFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.RejectDependenciesFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.ScopeFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filtering of a whole synthetic dependency graph by {@link MavenResolutionFilterWrap}, the same way Aether
+ * visits every node of a resolved graph together with the path to the root
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MavenResolutionFilterWrapBenchmark {
+
+    private static final int FAN_OUT = 4;
+
+    @Param({ "5000" })
+    private int nodes;
+
+    @Param({ "acceptAll", "scope", "rejectTransitives" })
+    private String filters;
+
+    private final List<DependencyNode> visited = new ArrayList<>();
+    private final List<List<DependencyNode>> parents = new ArrayList<>();
+    private MavenResolutionFilter[] resolutionFilters;
+
+    @Setup
+    public void createGraph() {
+        final List<DependencyNode> created = new ArrayList<>(nodes);
+        created.add(new DefaultDependencyNode((Dependency) null));
+        for (int i = 1; i < nodes; i++) {
+            final DependencyNode node = new DefaultDependencyNode(new Dependency(new DefaultArtifact(
+                    "org.jboss.shrinkwrap.benchmark", "artifact-" + i, "jar", "1.0"), i % 3 == 0 ? "test" : "compile"));
+            created.get((i - 1) / FAN_OUT).getChildren().add(node);
+            created.add(node);
+        }
+        visit(created.get(0), new ArrayList<>());
+
+        switch (filters) {
+            case "acceptAll":
+                resolutionFilters = new MavenResolutionFilter[] { AcceptAllFilter.INSTANCE };
+                break;
+            case "scope":
+                resolutionFilters = new MavenResolutionFilter[] { new ScopeFilter(ScopeType.COMPILE, ScopeType.RUNTIME) };
+                break;
+            default:
+                resolutionFilters = new MavenResolutionFilter[] { new ScopeFilter(ScopeType.COMPILE, ScopeType.TEST),
+                        new RejectDependenciesFilter(true, "org.jboss.shrinkwrap.benchmark:artifact-1:1.0") };
+                break;
+        }
+    }
+
+    private void visit(final DependencyNode node, final List<DependencyNode> path) {
+        // parents are ordered from the immediate parent to the root
+        final List<DependencyNode> nodeParents = new ArrayList<>(path);
+        Collections.reverse(nodeParents);
+        visited.add(node);
+        parents.add(nodeParents);
+
+        path.add(node);
+        for (DependencyNode child : node.getChildren()) {
+            visit(child, path);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    @Benchmark
+    public int accept() {
+        final MavenResolutionFilterWrap wrap = new MavenResolutionFilterWrap(resolutionFilters,
+                Collections.<MavenDependency> emptyList());
+        int accepted = 0;
+        for (int i = 0; i < visited.size(); i++) {
+            if (wrap.accept(visited.get(i), parents.get(i))) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.aether.graph.DependencyNode;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+
+/**
+ * Converts nodes of a dependency graph of a single resolution to {@link MavenArtifactInfo} instances. Every node is
+ * converted once, no matter how many resolved artifacts reach it, and the infos share the converted subtrees. Children
+ * of an info are converted only when its dependencies are requested for the first time.
+ */
+final class ArtifactInfoGraph {
+
+    private final Map<DependencyNode, MavenArtifactInfo> infos = new IdentityHashMap<>();
+
+    /**
+     * Returns infos of given nodes
+     *
+     * @param nodes Nodes of the dependency graph
+     * @return The infos
+     */
+    MavenArtifactInfo[] toArtifactInfos(final List<DependencyNode> nodes) {
+        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[nodes.size()];
+        synchronized (infos) {
+            int i = 0;
+            for (final DependencyNode node : nodes) {
+                MavenArtifactInfo info = infos.get(node);
+                if (info == null) {
+                    // children of the info are not converted yet, so the map is not modified recursively
+                    info = MavenArtifactInfoImpl.fromDependencyNode(node, this);
+                    infos.put(node, info);
+                }
+                dependencies[i++] = info;
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Returns number of nodes converted so far
+     *
+     * @return Number of converted nodes
+     */
+    int size() {
+        synchronized (infos) {
+            return infos.size();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+
+/**
+ * Delegates transfer events to another listener and aborts transfers once the resolution they belong to is cancelled.
+ * Aether checks the listener before a transfer starts and whenever data are received, so downloads in progress stop
+ * without waiting for their completion.
+ */
+final class CancellableTransferListener implements TransferListener {
+
+    private final TransferListener delegate;
+    private final BooleanSupplier cancelled;
+
+    CancellableTransferListener(final TransferListener delegate, final BooleanSupplier cancelled) {
+        this.delegate = delegate;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public void transferInitiated(final TransferEvent event) throws TransferCancelledException {
+        checkCancelled();
+        if (delegate != null) {
+            delegate.transferInitiated(event);
+        }
+    }
+
+    @Override
+    public void transferStarted(final TransferEvent event) throws TransferCancelledException {
+        checkCancelled();
+        if (delegate != null) {
+            delegate.transferStarted(event);
+        }
+    }
+
+    @Override
+    public void transferProgressed(final TransferEvent event) throws TransferCancelledException {
+        checkCancelled();
+        if (delegate != null) {
+            delegate.transferProgressed(event);
+        }
+    }
+
+    @Override
+    public void transferCorrupted(final TransferEvent event) throws TransferCancelledException {
+        checkCancelled();
+        if (delegate != null) {
+            delegate.transferCorrupted(event);
+        }
+    }
+
+    @Override
+    public void transferSucceeded(final TransferEvent event) {
+        if (delegate != null) {
+            delegate.transferSucceeded(event);
+        }
+    }
+
+    @Override
+    public void transferFailed(final TransferEvent event) {
+        if (delegate != null) {
+            delegate.transferFailed(event);
+        }
+    }
+
+    private void checkCancelled() throws TransferCancelledException {
+        if (cancelled.getAsBoolean()) {
+            throw new TransferCancelledException("Resolution was cancelled");
+        }
+    }
+}
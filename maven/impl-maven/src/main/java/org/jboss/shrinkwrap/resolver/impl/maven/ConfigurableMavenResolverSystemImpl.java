@@ -25,6 +25,7 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.PomEquippedResolveStage;
 import org.jboss.shrinkwrap.resolver.api.maven.PomlessResolveStage;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepositories;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
 
@@ -97,6 +98,24 @@ public class ConfigurableMavenResolverSystemImpl
         return this;
     }
 
+    @Override
+    public ConfigurableMavenResolverSystem withParallelDownloads(int threads) {
+        getMavenWorkingSession().setParallelDownloads(threads);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withVirtualThreads(boolean virtualThreads) {
+        getMavenWorkingSession().setVirtualThreads(virtualThreads);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withResolutionMetrics(ResolutionMetrics metrics) {
+        getMavenWorkingSession().setResolutionMetrics(metrics);
+        return this;
+    }
+
     @Override
     public MavenWorkingSession getMavenWorkingSession() {
         return super.getSession();
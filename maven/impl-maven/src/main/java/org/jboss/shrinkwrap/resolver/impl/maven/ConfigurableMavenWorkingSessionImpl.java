@@ -24,6 +24,7 @@ import org.apache.maven.settings.Settings;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
 
 /**
@@ -48,15 +49,28 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
 
     private static final Logger log = Logger.getLogger(ConfigurableMavenWorkingSessionImpl.class.getName());
 
+    /**
+     * Default number of concurrent downloads, Maven Resolver defaults are used if not set
+     */
+    static final String PARALLEL_DOWNLOADS_KEY = "org.jboss.shrinkwrap.resolver.maven.parallelDownloads";
+
+    // Maven Resolver configuration properties controlling concurrency of downloads
+    private static final String CONNECTOR_THREADS = "aether.connector.basic.threads";
+    private static final String METADATA_RESOLVER_THREADS = "aether.metadataResolver.threads";
+    private static final String DEPENDENCY_COLLECTOR = "aether.dependencyCollector.impl";
+    private static final String BF_DEPENDENCY_COLLECTOR_THREADS = "aether.dependencyCollector.bf.threads";
+
     private DefaultRepositorySystemSession session;
     private final SettingsManager settingsManager;
     private boolean useLegacyLocalRepository = false;
-    private final MavenRepositorySystem system;
+    private MavenRepositorySystem system;
     private boolean disableClassPathWorkspaceReader = false;
     private boolean skipCompilation = false;
+    private int parallelDownloads = Integer.getInteger(PARALLEL_DOWNLOADS_KEY, 0);
+    private volatile boolean virtualThreads = Boolean.getBoolean(MavenRepositorySystem.VIRTUAL_THREADS_KEY);
+    private volatile ResolutionMetrics resolutionMetrics;
 
     public ConfigurableMavenWorkingSessionImpl() {
-        this.system = new MavenRepositorySystem();
         this.settingsManager = new SettingsManager();
     }
 
@@ -99,6 +113,44 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
         this.useLegacyLocalRepository = useLegacyLocalRepository;
     }
 
+    @Override
+    public void setParallelDownloads(final int threads) throws IllegalArgumentException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of parallel downloads must be positive, was " + threads);
+        }
+        if (log.isLoggable(Level.FINER)) {
+            log.finer("Set number of parallel downloads programmatically to: " + threads);
+        }
+        this.parallelDownloads = threads;
+        if (this.session != null) {
+            configureParallelDownloads(this.session);
+        }
+    }
+
+    @Override
+    public void setVirtualThreads(final boolean virtualThreads) {
+        if (log.isLoggable(Level.FINER)) {
+            log.finer("Set usage of virtual threads programmatically to: " + virtualThreads);
+        }
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void setResolutionMetrics(final ResolutionMetrics metrics) {
+        this.resolutionMetrics = metrics;
+        this.settingsManager.setResolutionMetrics(metrics);
+    }
+
+    @Override
+    public ResolutionMetrics getResolutionMetrics() {
+        return resolutionMetrics;
+    }
+
     @Override
     public boolean skipCompilation() {
         return this.skipCompilation;
@@ -142,11 +194,15 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
     }
 
     /**
-     * Returns an instance of the {@link MavenRepositorySystem}.
+     * Returns an instance of the {@link MavenRepositorySystem} matching current {@link Settings}. The instance is
+     * shared with other sessions using the same configuration.
      *
      * @return an instance of the {@link MavenRepositorySystem}
      */
     protected MavenRepositorySystem getSystem() {
+        if (this.system == null) {
+            generateSession();
+        }
         return this.system;
     }
 
@@ -165,9 +221,33 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
      * Generates an instance of the {@link DefaultRepositorySystemSession} and takes into account related properties
      */
     private void generateSession() {
-        this.session = this.system.getSession(getSettings(), this.useLegacyLocalRepository);
+        final Settings settings = getSettings();
+        if (this.system == null) {
+            this.system = MavenRepositorySystem.forSettings(settings);
+        } else if (!this.system.isCompatibleWith(settings)) {
+            this.system.close();
+            this.system = MavenRepositorySystem.forSettings(settings);
+        }
+        this.session = this.system.getSession(settings, this.useLegacyLocalRepository);
         if (this.disableClassPathWorkspaceReader) {
             this.session.setWorkspaceReader(null);
         }
+        configureParallelDownloads(this.session);
+        this.session.setTransferListener(new MetricsTransferListener(this.session.getTransferListener(),
+                this::getResolutionMetrics));
+    }
+
+    /**
+     * Propagates number of parallel downloads, if set, to Maven Resolver configuration of given session
+     */
+    private void configureParallelDownloads(final DefaultRepositorySystemSession session) {
+        if (this.parallelDownloads < 1) {
+            return;
+        }
+        final String threads = String.valueOf(this.parallelDownloads);
+        session.setConfigProperty(CONNECTOR_THREADS, threads);
+        session.setConfigProperty(METADATA_RESOLVER_THREADS, threads);
+        session.setConfigProperty(DEPENDENCY_COLLECTOR, "bf");
+        session.setConfigProperty(BF_DEPENDENCY_COLLECTOR_THREADS, threads);
     }
 }
@@ -15,7 +15,8 @@ import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
 
 /**
- * Immutable implementation of {@link MavenArtifactInfo}.
+ * Immutable implementation of {@link MavenArtifactInfo}. Dependencies of an artifact created from a dependency graph
+ * are converted lazily, see {@link ArtifactInfoGraph}.
  *
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
  */
@@ -29,7 +30,10 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
     protected final ScopeType scopeType;
     protected final boolean optional;
 
-    protected final MavenArtifactInfo[] dependencies;
+    // converted when requested for the first time, unless created from dependencies
+    protected volatile MavenArtifactInfo[] dependencies;
+    private List<DependencyNode> children;
+    private ArtifactInfoGraph graph;
 
     protected MavenArtifactInfoImpl(final MavenCoordinate mavenCoordinate, final String resolvedVersion,
         final boolean snapshotVersion, final String extension, final ScopeType scopeType,
@@ -45,6 +49,12 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
 
     protected MavenArtifactInfoImpl(final Artifact artifact, final ScopeType scopeType,
                                     final List<DependencyNode> children, boolean optional) {
+        this(artifact, scopeType, children, optional, new ArtifactInfoGraph());
+    }
+
+    protected MavenArtifactInfoImpl(final Artifact artifact, final ScopeType scopeType,
+                                    final List<DependencyNode> children, boolean optional,
+                                    final ArtifactInfoGraph graph) {
 
         final PackagingType packaging = PackagingType.of(artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension()));
         final String classifier = artifact.getClassifier().isEmpty() ? packaging.getClassifier() : artifact.getClassifier();
@@ -54,7 +64,8 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
         this.resolvedVersion = artifact.getVersion();
         this.snapshotVersion = artifact.isSnapshot();
         this.extension = artifact.getExtension();
-        this.dependencies = parseDependencies(children);
+        this.children = children;
+        this.graph = graph;
         this.scopeType = scopeType;
         this.optional = optional;
     }
@@ -67,6 +78,19 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
      * @return The new {@link MavenArtifactInfo> instance.
      */
     static MavenArtifactInfo fromDependencyNode(final DependencyNode dependencyNode) {
+        return fromDependencyNode(dependencyNode, new ArtifactInfoGraph());
+    }
+
+    /**
+     * Creates MavenArtifactInfo based on DependencyNode, sharing converted dependencies with other nodes of the graph.
+     *
+     * @param dependencyNode
+     *            dependencyNode
+     * @param graph
+     *            Converted nodes of the dependency graph
+     * @return The new {@link MavenArtifactInfo> instance.
+     */
+    static MavenArtifactInfo fromDependencyNode(final DependencyNode dependencyNode, final ArtifactInfoGraph graph) {
         final Artifact artifact = dependencyNode.getDependency().getArtifact();
         final List<DependencyNode> children = dependencyNode.getChildren();
 
@@ -80,7 +104,7 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
                     new Object[] { dependencyNode.getDependency().getScope(), dependencyNode.getDependency().getArtifact() });
         }
         final boolean optional = dependencyNode.getDependency().isOptional();
-        return new MavenArtifactInfoImpl(artifact, scopeType, children, optional);
+        return new MavenArtifactInfoImpl(artifact, scopeType, children, optional, graph);
     }
 
     /**
@@ -90,12 +114,7 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
      * @return A {@link MavenArtifactInfo} array from {@link List} of DependencyNode's.
      */
     protected MavenArtifactInfo[] parseDependencies(final List<DependencyNode> children) {
-        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[children.size()];
-        int i = 0;
-        for (final DependencyNode child : children) {
-            dependencies[i++] = MavenArtifactInfoImpl.fromDependencyNode(child);
-        }
-        return dependencies;
+        return graph.toArtifactInfos(children);
     }
 
     /**
@@ -145,6 +164,19 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
      */
     @Override
     public MavenArtifactInfo[] getDependencies() {
+        MavenArtifactInfo[] dependencies = this.dependencies;
+        if (dependencies == null) {
+            synchronized (this) {
+                dependencies = this.dependencies;
+                if (dependencies == null) {
+                    dependencies = parseDependencies(children);
+                    this.dependencies = dependencies;
+                    // the graph is no longer needed by this info
+                    this.children = null;
+                    this.graph = null;
+                }
+            }
+        }
         return dependencies;
     }
 
@@ -158,11 +190,23 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
         return optional;
     }
 
+    // dependencies are not converted and only their coordinates are printed, as the graph might contain cycles
     @Override
     public String toString() {
         return "MavenArtifactInfoImpl [mavenCoordinate=" + mavenCoordinate + ", resolvedVersion=" + resolvedVersion
             + ", snapshotVersion=" + snapshotVersion + ", extension=" + extension + ", scope=" + scopeType
-            + ", dependencies=" + Arrays.toString(dependencies) + "]";
+            + ", dependencies=" + coordinatesOf(dependencies) + "]";
+    }
+
+    private static String coordinatesOf(final MavenArtifactInfo[] dependencies) {
+        if (dependencies == null) {
+            return "null";
+        }
+        final String[] coordinates = new String[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            coordinates[i] = dependencies[i].getCoordinate().toCanonicalForm();
+        }
+        return Arrays.toString(coordinates);
     }
 
 }
@@ -39,6 +39,8 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvent;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvents;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.IOUtil;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessor;
@@ -56,15 +58,15 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
 
     private final File file;
 
-    private MavenResolvedArtifactImpl(MavenCoordinate mavenCoordinate, String resolvedVersion, boolean snapshotVersion,
-            String extension, File file, ScopeType scopeType, MavenArtifactInfo[] dependencies) {
-        super(mavenCoordinate, resolvedVersion, snapshotVersion, extension, scopeType, dependencies, false);
+    MavenResolvedArtifactImpl(MavenCoordinate mavenCoordinate, String resolvedVersion, boolean snapshotVersion,
+            String extension, File file, ScopeType scopeType, MavenArtifactInfo[] dependencies, boolean optional) {
+        super(mavenCoordinate, resolvedVersion, snapshotVersion, extension, scopeType, dependencies, optional);
         this.file = file;
     }
 
     private MavenResolvedArtifactImpl(final Artifact artifact, final ScopeType scopeType,
-            final List<DependencyNode> children, boolean optional) {
-        super(artifact, scopeType, children, optional);
+            final List<DependencyNode> children, boolean optional, final ArtifactInfoGraph graph) {
+        super(artifact, scopeType, children, optional, graph);
         this.file = artifactToFile(artifact);
     }
 
@@ -75,6 +77,19 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
      * @return The created {@link MavenResolvedArtifact}.
      */
     static MavenResolvedArtifact fromArtifactResult(final ArtifactResult artifactResult) {
+        return fromArtifactResult(artifactResult, new ArtifactInfoGraph());
+    }
+
+    /**
+     * Creates a {@link MavenResolvedArtifact} based on the provided {@link ArtifactResult}, sharing converted
+     * dependencies with other artifacts of the same resolution.
+     *
+     * @param artifactResult The {@link ArtifactResult} to create the {@link MavenResolvedArtifact} from.
+     * @param graph Converted nodes of the dependency graph of the resolution
+     * @return The created {@link MavenResolvedArtifact}.
+     */
+    static MavenResolvedArtifact fromArtifactResult(final ArtifactResult artifactResult,
+            final ArtifactInfoGraph graph) {
         final Artifact artifact = artifactResult.getArtifact();
         final DependencyNode root = artifactResult.getRequest().getDependencyNode();
 
@@ -90,7 +105,7 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
 
         final List<DependencyNode> children = root.getChildren();
         final boolean optional = root.getDependency().isOptional();
-        return new MavenResolvedArtifactImpl(artifact, scopeType, children, optional);
+        return new MavenResolvedArtifactImpl(artifact, scopeType, children, optional, graph);
     }
 
     @Override
@@ -193,8 +208,17 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
 
             Validate.notNullAndNoNullValues(directories, "Directories to be packaged must be specified");
 
-            final ZipOutputStream zipFile = new ZipOutputStream(Files.newOutputStream(outputFile.toPath()));
+            final ResolverEvent event = ResolverEvents.archivePackaging(outputFile, directories.length);
+            boolean packaged = false;
+            try {
+                writeEntries(new ZipOutputStream(Files.newOutputStream(outputFile.toPath())), directories);
+                packaged = true;
+            } finally {
+                event.complete(packaged);
+            }
+        }
 
+        private static void writeEntries(final ZipOutputStream zipFile, final File[] directories) throws IOException {
             for (File directory : directories) {
                 for (String entry : fileListing(directory)) {
 
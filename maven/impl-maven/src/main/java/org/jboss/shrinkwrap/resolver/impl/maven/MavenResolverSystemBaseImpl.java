@@ -18,6 +18,8 @@ package org.jboss.shrinkwrap.resolver.impl.maven;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.jboss.shrinkwrap.resolver.api.Coordinate;
@@ -25,6 +27,7 @@ import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStageBase;
@@ -33,6 +36,9 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.PomEquippedResolveStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.PomlessResolveStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.task.ResolveDependencySetsTask;
 
 /**
  * Support for implementations of {@link MavenResolverSystem}
@@ -241,4 +247,41 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
         throws IllegalArgumentException {
         return delegate.addDependencies(dependencies);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase#resolveAll(java.util.Map)
+     */
+    @Override
+    public <K> Map<K, MavenFormatStage> resolveAll(Map<K, ? extends Collection<String>> canonicalForms)
+        throws IllegalArgumentException, CoordinateParseException, ResolutionException {
+        return resolveAll(canonicalForms, TransitiveStrategy.INSTANCE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase#resolveAll(java.util.Map,
+     *      org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy)
+     */
+    @Override
+    public <K> Map<K, MavenFormatStage> resolveAll(Map<K, ? extends Collection<String>> canonicalForms,
+        MavenResolutionStrategy strategy) throws IllegalArgumentException, CoordinateParseException, ResolutionException {
+        if (canonicalForms == null) {
+            throw new IllegalArgumentException("canonical forms must be provided");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("strategy must be specified");
+        }
+
+        final Map<K, Collection<MavenResolvedArtifact>> resolved = new ResolveDependencySetsTask<K>(canonicalForms,
+            strategy).execute(getSession());
+
+        final Map<K, MavenFormatStage> formatStages = new LinkedHashMap<>(resolved.size());
+        for (final Map.Entry<K, Collection<MavenResolvedArtifact>> entry : resolved.entrySet()) {
+            formatStages.put(entry.getKey(), new MavenFormatStageImpl(entry.getValue()));
+        }
+        return formatStages;
+    }
 }
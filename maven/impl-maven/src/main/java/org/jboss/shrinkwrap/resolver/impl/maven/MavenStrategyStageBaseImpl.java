@@ -16,14 +16,20 @@
  */
 package org.jboss.shrinkwrap.resolver.impl.maven;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
@@ -73,6 +79,80 @@ public abstract class MavenStrategyStageBaseImpl<STRATEGYSTAGETYPE extends Maven
         return this.createFormatStage(resolvedArtifacts);
     }
 
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> withTransitivityAsync(final Executor executor)
+            throws IllegalArgumentException {
+        return usingAsync(TransitiveStrategy.INSTANCE, executor);
+    }
+
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> withoutTransitivityAsync(final Executor executor)
+            throws IllegalArgumentException {
+        return usingAsync(NonTransitiveStrategy.INSTANCE, executor);
+    }
+
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> usingAsync(final MavenResolutionStrategy strategy,
+            final Executor executor) throws IllegalArgumentException {
+        Validate.notNull(strategy, "Strategy must be specified");
+        Validate.notNull(executor, "Executor must be specified");
+        Validate.notEmpty(session.getDependenciesForResolution(), "No dependencies were set for resolution");
+
+        // take dependencies from the session right away, the same way synchronous resolution clears them
+        final List<MavenDependency> dependencies = new ArrayList<>(session.getDependenciesForResolution());
+        session.getDependenciesForResolution().clear();
+
+        final CompletableFuture<FORMATSTAGETYPE> future = new CompletableFuture<>();
+        final Runnable resolution = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(createFormatStage(session.resolveDependencies(dependencies, strategy,
+                        future::isCancelled)));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        try {
+            executor.execute(resolution);
+        } catch (RuntimeException e) {
+            // e.g. an executor that has been shut down
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public Stream<MavenResolvedArtifact> stream(final MavenResolutionStrategy strategy, final Executor executor)
+            throws IllegalArgumentException {
+        Validate.notNull(strategy, "Strategy must be specified");
+        Validate.notNull(executor, "Executor must be specified");
+        Validate.notEmpty(session.getDependenciesForResolution(), "No dependencies were set for resolution");
+
+        final List<MavenDependency> dependencies = new ArrayList<>(session.getDependenciesForResolution());
+        session.getDependenciesForResolution().clear();
+
+        final ResolvedArtifactStream stream = new ResolvedArtifactStream();
+        final Runnable resolution = () -> {
+            if (stream.isClosed()) {
+                return;
+            }
+            try {
+                session.resolveDependencies(dependencies, strategy, stream::isClosed, stream);
+                stream.complete();
+            } catch (Throwable t) {
+                stream.fail(t);
+            }
+        };
+        try {
+            executor.execute(resolution);
+        } catch (RuntimeException e) {
+            stream.fail(e);
+        }
+        return stream.stream();
+    }
+
     protected abstract Class<STRATEGYSTAGETYPE> getActualClass();
 
     /**
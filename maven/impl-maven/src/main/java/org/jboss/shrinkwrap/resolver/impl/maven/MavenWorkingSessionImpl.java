@@ -21,19 +21,22 @@ import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.mima.context.Runtime;
 import eu.maveniverse.maven.mima.context.Runtimes;
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -48,7 +51,13 @@ import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.model.building.ModelBuildingResult;
 import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.apache.maven.settings.Mirror;
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.collection.DependencyCollectionException;
@@ -58,10 +67,12 @@ import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RemoteRepository.Builder;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.repository.WorkspaceRepository;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
@@ -69,6 +80,7 @@ import org.eclipse.aether.util.graph.selector.AndDependencySelector;
 import org.eclipse.aether.util.graph.selector.ExclusionDependencySelector;
 import org.eclipse.aether.util.graph.selector.OptionalDependencySelector;
 import org.eclipse.aether.util.graph.selector.ScopeDependencySelector;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionException;
@@ -79,14 +91,24 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionPhase;
 import org.jboss.shrinkwrap.resolver.api.maven.pom.ParsedPomFile;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveExclusionPolicy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
 import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
+import org.jboss.shrinkwrap.resolver.impl.maven.internal.EffectiveModelCache;
 import org.jboss.shrinkwrap.resolver.impl.maven.internal.MavenModelResolver;
 import org.jboss.shrinkwrap.resolver.impl.maven.internal.SettingsXmlProfileSelector;
+import org.jboss.shrinkwrap.resolver.impl.maven.internal.SharedModelCache;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvent;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvents;
 import org.jboss.shrinkwrap.resolver.impl.maven.pom.ParsedPomFileImpl;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Fingerprint;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.IndexedDependencySet;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.VolatileVersions;
 
 /**
  * Implementation of a {@link MavenWorkingSession}, encapsulating Maven/Aether backend
@@ -99,6 +121,14 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
     private static final Logger log = Logger.getLogger(MavenWorkingSessionImpl.class.getName());
 
+    private static final BooleanSupplier NOT_CANCELLED = () -> false;
+    private static final Consumer<MavenResolvedArtifact> NOT_STREAMED = artifact -> {
+    };
+
+    // builders are reused, but not shared by threads; the model validator of Maven 3.9 keeps unsynchronized state
+    private static final ThreadLocal<ModelBuilder> MODEL_BUILDERS = ThreadLocal.withInitial(
+        () -> new DefaultModelBuilderFactory().newInstance());
+
     /**
      * <code><dependencyManagement></code> metadata
      */
@@ -119,13 +149,27 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
     private boolean useMavenCentralRepository = true;
 
+    /**
+     * Effective remote repositories, computed lazily and invalidated when any of its inputs changes
+     */
+    private List<RemoteRepository> effectiveRemoteRepositories;
+    /**
+     * {@link Settings} the {@link #effectiveRemoteRepositories} were computed from
+     */
+    private Settings effectiveRemoteRepositoriesSettings;
+
+    // consumer POM files read from the project-local repository
+    private ProjectLocalGraphLoader projectLocalGraphLoader;
+    // project-local repository discovered by this session, null if it was not searched for yet
+    private Optional<Path> projectLocalRepository;
+
     public MavenWorkingSessionImpl() {
         super();
         this.remoteRepositories = new ArrayList<>();
         this.additionalRemoteRepositories = new ArrayList<>();
 
         this.dependencies = new ArrayList<>();
-        this.dependencyManagement = new LinkedHashSet<>();
+        this.dependencyManagement = new IndexedDependencySet();
         this.declaredDependencies = new LinkedHashSet<>();
     }
 
@@ -158,8 +202,28 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
     public MavenWorkingSession loadPomFromFile(File pomFile, Properties userProperties, String... profiles)
         throws InvalidConfigurationFileException {
 
+        final MavenRepositorySystem system = getSystem();
+        final RepositorySystemSession session = getSession();
+        final List<RemoteRepository> repositories = getRemoteRepositories();
+        final Model model = buildModel(newModelBuildingRequest(pomFile, userProperties, getSettingsDefinedProfiles(),
+                profiles), () -> new MavenModelResolver(system, session, repositories));
+
+        // update model
+        this.model = model;
+
+        // update model repositories
+        for (Repository repository : model.getRepositories()) {
+            remoteRepositories.add(MavenConverter.asRemoteRepository(repository));
+        }
+        invalidateRemoteRepositories();
+
+        return this;
+    }
+
+    private static DefaultModelBuildingRequest newModelBuildingRequest(File pomFile, Properties userProperties,
+            List<Profile> settingsProfiles, String... profiles) {
         final DefaultModelBuildingRequest request = new DefaultModelBuildingRequest()
-                .setSystemProperties(SecurityActions.getProperties()).setProfiles(this.getSettingsDefinedProfiles())
+                .setSystemProperties(SecurityActions.getProperties()).setProfiles(settingsProfiles)
                 .setPomFile(pomFile).setActiveProfileIds(SettingsXmlProfileSelector.explicitlyActivatedProfiles(profiles))
                 .setInactiveProfileIds(SettingsXmlProfileSelector.explicitlyDisabledProfiles(profiles))
                 .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
@@ -168,12 +232,34 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
         if (userProperties != null){
             request.setUserProperties(userProperties);
         }
+        return request;
+    }
 
-        ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
-        ModelBuildingResult result;
+    /**
+     * Builds an effective model without modifying the session, so it can be called concurrently
+     */
+    private Model buildModel(DefaultModelBuildingRequest request, Supplier<ModelResolver> modelResolver)
+        throws InvalidConfigurationFileException {
+
+        final boolean modelCacheEnabled = SharedModelCache.isEnabled();
+        Model model = null;
+        final long modelBuildingStart = System.nanoTime();
+        final ResolverEvent modelBuildingEvent = ResolverEvents.modelBuilding(request.getPomFile());
         try {
-            request.setModelResolver(new MavenModelResolver(getSystem(), getSession(), getRemoteRepositories()));
-            result = builder.build(request);
+            final EffectiveModelCache.Key cacheKey = modelCacheEnabled ? EffectiveModelCache.Key.of(request) : null;
+            model = modelCacheEnabled ? EffectiveModelCache.getInstance().get(cacheKey) : null;
+            if (model == null) {
+                request.setModelResolver(modelResolver.get());
+                if (modelCacheEnabled) {
+                    request.setModelCache(SharedModelCache.getInstance().forProperties(
+                            request.getSystemProperties(), request.getUserProperties()));
+                }
+                final ModelBuildingResult result = MODEL_BUILDERS.get().build(request);
+                if (modelCacheEnabled) {
+                    EffectiveModelCache.getInstance().put(cacheKey, result);
+                }
+                model = result.getEffectiveModel();
+            }
         }
         // wrap exception message
         catch (ModelBuildingException e) {
@@ -187,30 +273,47 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
             }
 
             throw new InvalidConfigurationFileException(sb.toString());
+        } finally {
+            phaseCompleted(getResolutionMetrics(), ResolutionPhase.MODEL_BUILDING, modelBuildingStart);
+            modelBuildingEvent.complete(model != null);
         }
+        return model;
+    }
 
-        // get and update model
-        Model model = result.getEffectiveModel();
-        this.model = model;
-
-        // update model repositories
-        for (Repository repository : model.getRepositories()) {
-            remoteRepositories.add(MavenConverter.asRemoteRepository(repository));
+    private Collection<ArtifactResult> resolveProjectLocal(final List<MavenDependency> depsForResolution,
+                                                           Set<MavenDependency>  additionalDependencies,
+                                                           final MavenRepositorySystem system,
+                                                           final RepositorySystemSession session,
+                                                           final List<RemoteRepository> repos) {
+        Path projectLocalRepository = findProjectLocalRepository();
+        if (projectLocalRepository == null) {
+            return Collections.emptyList();
         }
 
-        return this;
-    }
+        // consumer POM files are read concurrently, so everything they need is obtained upfront
+        final List<Profile> settingsProfiles;
+        final ProjectLocalGraphLoader loader;
+        synchronized (this) {
+            settingsProfiles = getSettingsDefinedProfiles();
+            if (projectLocalGraphLoader == null || !projectLocalGraphLoader.getRepository().equals(projectLocalRepository)) {
+                projectLocalGraphLoader = new ProjectLocalGraphLoader(projectLocalRepository, isVirtualThreads());
+            }
+            loader = projectLocalGraphLoader;
+        }
+        final ArtifactTypeRegistry registry = session.getArtifactTypeRegistry();
+        final boolean consumerPomFound = loader.addTransitiveDependencies(depsForResolution, additionalDependencies,
+                consumerPom -> new ParsedPomFileImpl(buildModel(newModelBuildingRequest(consumerPom, null,
+                        settingsProfiles), () -> new MavenModelResolver(system, session, repos)), registry)
+                        .getDependencies());
+        if (!consumerPomFound) {
+            return Collections.emptyList();
+        }
 
-    private Collection<ArtifactResult> resolveProjectLocal(final List<MavenDependency> depsForResolution,
-                                                           Set<MavenDependency>  additionalDependencies) {
         Collection<ArtifactResult> projectLocalDependencies = new ArrayList<>(depsForResolution.size());
-        AtomicBoolean consumerPomFound = new AtomicBoolean();
         for (MavenDependency dependency : depsForResolution) {
-            Path resolved = resolveProjectLocal(dependency.getGroupId(), dependency.getArtifactId(),
-                    dependency.getVersion(), Optional.ofNullable(dependency.getClassifier()),
-                    Optional.ofNullable(dependency.getPackaging().getExtension()),
-                    additionalDependencies, consumerPomFound);
-            if (resolved != null && resolved.toFile().exists()) {
+            Path resolved = loader.findArtifact(dependency.getGroupId(), dependency.getArtifactId(),
+                    dependency.getVersion(), dependency.getClassifier(), dependency.getPackaging().getExtension());
+            if (resolved != null) {
                 Artifact artifact = new DefaultArtifact(dependency.getGroupId(), dependency.getArtifactId(),
                         dependency.getClassifier(), dependency.getPackaging().getExtension(), dependency.getVersion(),
                         null, resolved.toFile());
@@ -221,72 +324,52 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
                 projectLocalDependencies.add(result);
             }
         }
-        return consumerPomFound.get() ? projectLocalDependencies : Collections.emptyList();
+        return projectLocalDependencies;
     }
 
-    private Path resolveProjectLocal(String groupId, String artifactId, String version,
-                                     Optional<String> classifier, Optional<String> extension,
-                                     Set<MavenDependency> additionalDependencies, AtomicBoolean consumerPomFound) {
-        Path projectLocalRepository = findProjectLocalRepository();
-        if (projectLocalRepository == null) {
-            return null;
+    static List<MavenDependency> filterFromLocal(final List<MavenDependency> depsForResolution,
+                                                 final Collection<ArtifactResult> projectLocalDependencies,
+                                                 final ArtifactTypeRegistry registry) {
+        final Set<String> projectLocalKeys = new HashSet<>(projectLocalDependencies.size() * 2);
+        for (ArtifactResult result : projectLocalDependencies) {
+            final Artifact artifact = result.getArtifact();
+            // project-local artifacts are created without properties, only those can be equal to a dependency
+            if (artifact.getProperties().isEmpty()) {
+                projectLocalKeys.add(toArtifactKey(artifact));
+            }
         }
 
-        Predicate<String> isNotEmpty = s -> !s.isEmpty();
-        processAdditionalDependencies(projectLocalRepository, groupId, artifactId, version,
-                additionalDependencies, consumerPomFound);
-
-        return projectLocalRepository.resolve(groupId).resolve(artifactId).resolve(version)
-                .resolve(toVersionedArtifact(artifactId, version)
-                        + classifier.filter(isNotEmpty).map(c -> "-" + c).orElse("")
-                        + "." + extension.filter(isNotEmpty).orElse("jar"));
-    }
-
-    private static String toVersionedArtifact(String artifactId, String version) {
-        return artifactId + "-" + version;
-    }
-
-    private void processAdditionalDependencies(Path projectLocalRepository, String groupId,
-                                               String artifactId, String version,
-                                               Set<MavenDependency> additionalDependencies,
-                                               AtomicBoolean consumerPomFound) {
-        Path directory = projectLocalRepository.resolve(groupId).resolve(artifactId).resolve(version);
-        File consumerPom = directory.resolve(toVersionedArtifact(artifactId, version) + "-consumer.pom").toFile();
-        File buildPom = directory.resolve(toVersionedArtifact(artifactId, version) + "-build.pom").toFile();
-        if (!consumerPom.exists() && buildPom.exists()) {
-            // in some versions of maven, consumer pom is just generated with ".pom" extension
-            // in that case, build pom will also exist
-            consumerPom = directory.resolve(toVersionedArtifact(artifactId, version) + ".pom").toFile();
-        }
-
-        if (consumerPom.exists()) {
-            consumerPomFound.set(true);
-            Set<MavenDependency> transitiveDependencies = loadPomFromFile(consumerPom).getParsedPomFile().getDependencies();
-            transitiveDependencies.removeAll(additionalDependencies);
-            if (!transitiveDependencies.isEmpty()) {
-                additionalDependencies.addAll(transitiveDependencies);
-                transitiveDependencies.forEach(dependency -> processAdditionalDependencies(projectLocalRepository,
-                        dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
-                        additionalDependencies, consumerPomFound));
+        final List<MavenDependency> filtered = new ArrayList<>(depsForResolution.size());
+        for (MavenDependency dependency : depsForResolution) {
+            if (!projectLocalKeys.contains(toArtifactKey(MavenConverter.asArtifact(dependency, registry)))) {
+                filtered.add(dependency);
             }
         }
+        return filtered;
     }
 
-    private List<MavenDependency> filterFromLocal(final List<MavenDependency> depsForResolution,
-                                                  final Collection<ArtifactResult> projectLocalDependencies) {
-        return depsForResolution.stream()
-                .filter(dependency -> projectLocalDependencies.stream()
-                        .noneMatch(result -> MavenConverter.asArtifact(dependency,
-                                getSession().getArtifactTypeRegistry())
-                                .setProperties(Collections.EMPTY_MAP)
-                                .equals(result.getArtifact().setFile(null))))
-                .collect(Collectors.toList());
+    /**
+     * Normalized groupId:artifactId:extension:classifier:version key of an artifact
+     */
+    private static String toArtifactKey(final Artifact artifact) {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getExtension() + ':'
+                + artifact.getClassifier() + ':' + artifact.getVersion();
     }
 
     /**
+     * Finds the project-local repository once per session, it is searched for again only if it was removed
+     *
      * @return absolute path to the project-local repository or null if not found
      */
-    private Path findProjectLocalRepository() {
+    private synchronized Path findProjectLocalRepository() {
+        if (projectLocalRepository == null
+                || (projectLocalRepository.isPresent() && !Files.isDirectory(projectLocalRepository.get()))) {
+            projectLocalRepository = Optional.ofNullable(discoverProjectLocalRepository());
+        }
+        return projectLocalRepository.orElse(null);
+    }
+
+    private static Path discoverProjectLocalRepository() {
         Path targetPath = Paths.get("target/project-local-repo");
         Path currentPath = Paths.get("").toAbsolutePath();
         while (currentPath != null) {
@@ -303,32 +386,108 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
     public Collection<MavenResolvedArtifact> resolveDependencies(final MavenResolutionStrategy strategy)
             throws ResolutionException {
 
-        final List<MavenDependency> depsForResolution = Collections.unmodifiableList(new ArrayList<>(
-                this.getDependenciesForResolution()));
-        final List<MavenDependency> depManagement = new ArrayList<>(this.getDependencyManagement());
+        final Collection<MavenResolvedArtifact> resolvedArtifacts = resolveDependencies(
+                this.getDependenciesForResolution(), strategy);
 
-        final List<RemoteRepository> repos = this.getRemoteRepositories();
+        // Clear dependencies to be resolved (for the next request); we've already sent this request
+        this.getDependenciesForResolution().clear();
+
+        return resolvedArtifacts;
+    }
+
+    @Override
+    public Collection<MavenResolvedArtifact> resolveDependencies(final List<MavenDependency> dependencies,
+            final MavenResolutionStrategy strategy) throws ResolutionException {
+        return resolveDependencies(dependencies, strategy, NOT_CANCELLED);
+    }
+
+    @Override
+    public Collection<MavenResolvedArtifact> resolveDependencies(final List<MavenDependency> dependencies,
+            final MavenResolutionStrategy strategy, final BooleanSupplier cancelled) throws ResolutionException {
+        return resolveDependencies(dependencies, strategy, cancelled, NOT_STREAMED);
+    }
+
+    @Override
+    public Collection<MavenResolvedArtifact> resolveDependencies(final List<MavenDependency> dependencies,
+            final MavenResolutionStrategy strategy, final BooleanSupplier cancelled,
+            final Consumer<? super MavenResolvedArtifact> resolved) throws ResolutionException {
+
+        final List<MavenDependency> depsForResolution = Collections.unmodifiableList(new ArrayList<>(dependencies));
+        final ResolutionMetrics metrics = getResolutionMetrics();
+
+        // lazily initialized state is obtained at once, each resolution then works with its own copy of the session
+        final List<MavenDependency> depManagement;
+        final List<RemoteRepository> repos;
+        final DefaultRepositorySystemSession session;
+        final MavenRepositorySystem system;
+        final Settings settings;
+        final boolean offline;
+        final Model pomModel;
+        synchronized (this) {
+            depManagement = new ArrayList<>(this.getDependencyManagement());
+            repos = this.getRemoteRepositories();
+            session = new DefaultRepositorySystemSession(getSession());
+            system = getSystem();
+            settings = getSettings();
+            offline = isOffline();
+            pomModel = model;
+        }
+        if (cancelled != NOT_CANCELLED) {
+            session.setTransferListener(new CancellableTransferListener(session.getTransferListener(), cancelled));
+        }
+
+        // artifacts share dependencies they have in common
+        final ArtifactInfoGraph graph = new ArtifactInfoGraph();
+        // resolutions that are not streamed do not need to track published artifacts
+        final ResolvedArtifactPublisher publisher = resolved == NOT_STREAMED ? null
+                : new ResolvedArtifactPublisher(graph, PostResolutionFilter.accepting(depsForResolution, strategy),
+                        resolved);
+        if (publisher != null) {
+            session.setRepositoryListener(ChainedRepositoryListener.newInstance(session.getRepositoryListener(),
+                    publisher));
+        }
 
         List<MavenDependency> resolveFromRepository;
         Collection<ArtifactResult> projectLocalDependencies = Collections.emptyList();
         if (Boolean.getBoolean("org.jboss.shrinkwrap.resolver.maven.disableProjectLocal")) {
             resolveFromRepository = depsForResolution;
         } else {
+            final long projectLocalStart = System.nanoTime();
             Set<MavenDependency> allDependencies = new LinkedHashSet<>(depsForResolution);
-            projectLocalDependencies = resolveProjectLocal(depsForResolution, allDependencies);
+            projectLocalDependencies = resolveProjectLocal(depsForResolution, allDependencies, system, session,
+                    repos);
             if (projectLocalDependencies.isEmpty()) {
                 resolveFromRepository = depsForResolution;
             } else {
                 resolveFromRepository = filterFromLocal(
-                        allDependencies.stream().collect(Collectors.toList()), projectLocalDependencies);
+                        allDependencies.stream().collect(Collectors.toList()), projectLocalDependencies,
+                        session.getArtifactTypeRegistry());
             }
+            phaseCompleted(metrics, ResolutionPhase.PROJECT_LOCAL_LOOKUP, projectLocalStart);
         }
 
-        final CollectRequest request = new CollectRequest(MavenConverter.asDependencies(resolveFromRepository,
-            getSession().getArtifactTypeRegistry()),
-            MavenConverter.asDependencies(depManagement, getSession().getArtifactTypeRegistry()), repos);
+        // results of a resolution that does not involve project local or workspace artifacts can be reused from the
+        // disk cache, a workspace reader such as the classpath one might provide artifacts that it did not provide before
+        PersistentResolutionCache resolutionCache = null;
+        String resolutionCacheKey = null;
+        if (projectLocalDependencies.isEmpty() && session.getWorkspaceReader() == null
+                && PersistentResolutionCache.isEnabled()) {
+            resolutionCacheKey = resolutionCacheKey(depsForResolution, depManagement, repos, strategy, session,
+                    settings, offline, pomModel);
+            if (resolutionCacheKey != null) {
+                resolutionCache = new PersistentResolutionCache(session.getLocalRepository().getBasedir()
+                        .getAbsolutePath());
+                final Collection<MavenResolvedArtifact> cached = resolutionCache.get(resolutionCacheKey);
+                if (cached != null) {
+                    cached.forEach(resolved);
+                    return cached;
+                }
+            }
+        }
 
-        Collection<ArtifactResult> results = Collections.emptyList();
+        final CollectRequest request = new CollectRequest(MavenConverter.asDependencies(resolveFromRepository,
+            session.getArtifactTypeRegistry()),
+            MavenConverter.asDependencies(depManagement, session.getArtifactTypeRegistry()), repos);
 
         // Set the dependency selector used in resolving transitive dependencies based on our transitive exclusion
         // policy abstraction
@@ -348,30 +507,104 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
         }
         dependencySelectors.add(new ExclusionDependencySelector());
         final DependencySelector dependencySelector = new AndDependencySelector(dependencySelectors);
-        getSession().setDependencySelector(dependencySelector);
+        session.setDependencySelector(dependencySelector);
 
+        checkCancelled(cancelled);
+        final DependencyResult dependencyResult;
         try {
-            results = getSystem().resolveDependencies(getSession(), this, request,
-                strategy.getResolutionFilters());
+            dependencyResult = system.resolveDependencyGraph(session, depsForResolution, request,
+                strategy.getResolutionFilters(), metrics);
         } catch (DependencyResolutionException e) {
+            // transfers aborted by cancellation fail the resolution, report the cancellation rather than the failure
+            checkCancelled(cancelled);
             throw wrapException(e);
         }
+        checkCancelled(cancelled);
+        final Collection<ArtifactResult> results = dependencyResult.getArtifactResults();
 
         final Collection<MavenResolvedArtifact> resolvedArtifacts = new ArrayList<>(results.size() + projectLocalDependencies.size());
 
+        // artifacts already streamed while Aether resolved them are not published again
         for (final ArtifactResult result : projectLocalDependencies) {
-            resolvedArtifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(result));
+            resolvedArtifacts.add(publisher == null ? MavenResolvedArtifactImpl.fromArtifactResult(result, graph)
+                    : publisher.publish(result));
         }
 
         for (final ArtifactResult result : results) {
-            resolvedArtifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(result));
+            resolvedArtifacts.add(publisher == null ? MavenResolvedArtifactImpl.fromArtifactResult(result, graph)
+                    : publisher.publish(result));
         }
 
-        // Clear dependencies to be resolved (for the next request); we've already sent this request
-        this.getDependenciesForResolution().clear();
-
         // apply post filtering
-        return PostResolutionFilter.filter(resolvedArtifacts, depsForResolution, strategy);
+        final long postFilterStart = System.nanoTime();
+        final Collection<MavenResolvedArtifact> filteredArtifacts = PostResolutionFilter.filter(resolvedArtifacts,
+                depsForResolution, strategy);
+        phaseCompleted(metrics, ResolutionPhase.POST_RESOLUTION_FILTERING, postFilterStart);
+        if (resolutionCache != null && isCacheable(dependencyResult)) {
+            resolutionCache.put(resolutionCacheKey, filteredArtifacts);
+        }
+        return filteredArtifacts;
+    }
+
+    /**
+     * Computes a key of the resolution for {@link PersistentResolutionCache}. Only modification time of the loaded POM
+     * file is fingerprinted, changes of a locally edited parent POM are only caught through the effective dependency
+     * management.
+     *
+     * @return The key or {@code null} if results of the resolution might change over time and must not be cached
+     */
+    private String resolutionCacheKey(final List<MavenDependency> depsForResolution,
+            final List<MavenDependency> depManagement, final List<RemoteRepository> repos,
+            final MavenResolutionStrategy strategy, final RepositorySystemSession session, final Settings settings,
+            final boolean offline, final Model pomModel) {
+        final String strategyDescription = Fingerprint.describe(strategy);
+        if (strategyDescription == null) {
+            return null;
+        }
+
+        final Fingerprint fingerprint = new Fingerprint().add("strategy", strategyDescription);
+        for (MavenDependency dependency : depsForResolution) {
+            if (VolatileVersions.isVolatile(dependency.getVersion())) {
+                return null;
+            }
+            fingerprint.add("dependency", dependency);
+        }
+        for (MavenDependency dependency : depManagement) {
+            fingerprint.add("managed", dependency);
+        }
+        for (RemoteRepository repository : repos) {
+            fingerprint.add("repository", repository.getId() + " " + repository.getUrl());
+        }
+
+        // settings are fingerprinted through their effective values rather than through settings.xml files
+        fingerprint.add("localRepository", session.getLocalRepository().getBasedir().getAbsolutePath())
+                .add("offline", offline);
+        for (Mirror mirror : settings.getMirrors()) {
+            fingerprint.add("mirror", mirror.getId() + " " + mirror.getUrl() + " " + mirror.getMirrorOf());
+        }
+
+        if (pomModel != null && pomModel.getPomFile() != null) {
+            final File pomFile = pomModel.getPomFile();
+            fingerprint.add("pom", pomFile.getAbsolutePath() + " " + pomFile.lastModified());
+        }
+        return fingerprint.build();
+    }
+
+    /**
+     * Checks whether results of a resolution can be reused by later runs, which is not the case if any node of the
+     * dependency graph was requested with a version which might resolve differently once the repositories are updated
+     */
+    private static boolean isCacheable(final DependencyResult dependencyResult) {
+        if (VolatileVersions.isVolatile(dependencyResult.getRoot())) {
+            return false;
+        }
+        for (ArtifactResult result : dependencyResult.getArtifactResults()) {
+            if (result.getRepository() instanceof WorkspaceRepository || result.getArtifact() == null
+                    || result.getArtifact().isSnapshot()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -417,6 +650,7 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
     public void disableMavenCentral() {
         log.log(Level.FINEST, "Disabling Maven Central");
         this.useMavenCentralRepository = false;
+        invalidateRemoteRepositories();
     }
 
     /**
@@ -433,21 +667,36 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
         this.additionalRemoteRepositories.removeIf(r -> r.getId().equals(repository.getId()));
         this.additionalRemoteRepositories.add(builder.build());
+        invalidateRemoteRepositories();
     }
 
     // ------------------------------------------------------------------------
     // local implementation methods
 
-    private List<RemoteRepository> getRemoteRepositories() throws IllegalStateException {
+    List<RemoteRepository> getRemoteRepositories() throws IllegalStateException {
         // disable repositories if working offline
         if (isOffline()) {
             log.log(Level.FINE, "No remote repositories will be available, working in offline mode");
             return Collections.emptyList();
         }
 
+        final Settings settings = getSettings();
+        if (effectiveRemoteRepositories == null || effectiveRemoteRepositoriesSettings != settings) {
+            effectiveRemoteRepositories = Collections.unmodifiableList(computeRemoteRepositories(settings));
+            effectiveRemoteRepositoriesSettings = settings;
+        }
+        return new ArrayList<>(effectiveRemoteRepositories);
+    }
+
+    void invalidateRemoteRepositories() {
+        this.effectiveRemoteRepositories = null;
+        this.effectiveRemoteRepositoriesSettings = null;
+    }
+
+    private List<RemoteRepository> computeRemoteRepositories(Settings settings) {
         ContextOverrides.Builder contextOverridesBuilder = ContextOverrides.create();
         contextOverridesBuilder.withUserSettings(true);
-        contextOverridesBuilder.withEffectiveSettings(getSettings());
+        contextOverridesBuilder.withEffectiveSettings(settings);
         contextOverridesBuilder.addRepositoriesOp(ContextOverrides.AddRepositoriesOp.APPEND);
         List<RemoteRepository> ctxrepo = new ArrayList<>();
         if (useMavenCentralRepository
@@ -483,6 +732,18 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
         return MavenConverter.asProfiles(getSettings().getProfiles());
     }
 
+    private static void phaseCompleted(final ResolutionMetrics metrics, final ResolutionPhase phase, final long start) {
+        if (metrics != null) {
+            metrics.phaseCompleted(phase, System.nanoTime() - start);
+        }
+    }
+
+    private static void checkCancelled(final BooleanSupplier cancelled) throws ResolutionException {
+        if (cancelled.getAsBoolean()) {
+            throw new ResolutionException("Resolution was cancelled");
+        }
+    }
+
     private static ResolutionException wrapException(DependencyResolutionException e) {
         Throwable cause = e;
         Throwable nextCause = null;
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+
+/**
+ * Delegates transfer events to another listener and reports completed downloads to {@link ResolutionMetrics} currently
+ * registered on the working session. The metrics are looked up for every event, so registering them later does not
+ * require the repository session to be regenerated.
+ */
+final class MetricsTransferListener implements TransferListener {
+
+    private final TransferListener delegate;
+    private final Supplier<ResolutionMetrics> metrics;
+
+    MetricsTransferListener(final TransferListener delegate, final Supplier<ResolutionMetrics> metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void transferInitiated(final TransferEvent event) throws TransferCancelledException {
+        if (delegate != null) {
+            delegate.transferInitiated(event);
+        }
+    }
+
+    @Override
+    public void transferStarted(final TransferEvent event) throws TransferCancelledException {
+        if (delegate != null) {
+            delegate.transferStarted(event);
+        }
+    }
+
+    @Override
+    public void transferProgressed(final TransferEvent event) throws TransferCancelledException {
+        if (delegate != null) {
+            delegate.transferProgressed(event);
+        }
+    }
+
+    @Override
+    public void transferCorrupted(final TransferEvent event) throws TransferCancelledException {
+        if (delegate != null) {
+            delegate.transferCorrupted(event);
+        }
+    }
+
+    @Override
+    public void transferSucceeded(final TransferEvent event) {
+        final ResolutionMetrics current = metrics.get();
+        if (current != null && event.getRequestType() != TransferEvent.RequestType.PUT) {
+            final TransferResource resource = event.getResource();
+            final String repositoryId = resource.getRepositoryId();
+            final String repository = repositoryId == null || repositoryId.isEmpty() ? resource.getRepositoryUrl()
+                    : repositoryId;
+            final long durationMillis = System.currentTimeMillis() - resource.getTransferStartTime();
+            current.transferCompleted(repository, resource.getResourceName(), event.getTransferredBytes(),
+                    TimeUnit.MILLISECONDS.toNanos(Math.max(0L, durationMillis)));
+        }
+        if (delegate != null) {
+            delegate.transferSucceeded(event);
+        }
+    }
+
+    @Override
+    public void transferFailed(final TransferEvent event) {
+        if (delegate != null) {
+            delegate.transferFailed(event);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+
+/**
+ * Opt-in on-disk cache of resolution results. Each entry is a compact binary file stored under the local repository,
+ * named after a fingerprint of everything the resolution depends on. An entry is ignored if any of the files it refers
+ * to does not exist anymore. Results are stored only if no node of the dependency graph was requested with a SNAPSHOT,
+ * a version range or a LATEST or RELEASE meta-version, as these would resolve differently once repositories are updated.
+ * The cache is not used while a workspace reader is active, so classpath resolution has to be disabled to use it.
+ * <p>
+ * The cache is enabled by {@code org.jboss.shrinkwrap.resolver.maven.enableResolutionCache} system property.
+ */
+final class PersistentResolutionCache {
+    private static final Logger log = Logger.getLogger(PersistentResolutionCache.class.getName());
+
+    /**
+     * Enables the cache
+     */
+    static final String ENABLE_RESOLUTION_CACHE_KEY = "org.jboss.shrinkwrap.resolver.maven.enableResolutionCache";
+
+    /**
+     * Location of the cache, relative to the local repository
+     */
+    static final String CACHE_DIRECTORY = ".shrinkwrap/resolution-cache";
+
+    private static final int MAGIC = 0x53575252;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+
+    /**
+     * Creates a cache stored in given local repository
+     *
+     * @param localRepository Path to the local repository
+     */
+    PersistentResolutionCache(final String localRepository) {
+        this.directory = new File(localRepository).toPath().resolve(CACHE_DIRECTORY);
+    }
+
+    /**
+     * Returns whether the cache is enabled
+     *
+     * @return {@code true} if the cache should be used
+     */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLE_RESOLUTION_CACHE_KEY);
+    }
+
+    /**
+     * Returns cached artifacts
+     *
+     * @param key Fingerprint of the resolution
+     * @return Cached artifacts or {@code null} if there are none or they are no longer valid
+     */
+    Collection<MavenResolvedArtifact> get(final String key) {
+        final Path entry = directory.resolve(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.log(Level.FINE, "Ignoring resolution cache entry {0} in unknown format", entry);
+                return null;
+            }
+            final int size = in.readInt();
+            final List<MavenResolvedArtifact> artifacts = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final File file = new File(in.readUTF());
+                if (!file.isFile()) {
+                    log.log(Level.FINE, "Ignoring resolution cache entry {0}, {1} does not exist", new Object[] { entry,
+                            file });
+                    return null;
+                }
+                artifacts.add(readResolvedArtifact(in, file));
+            }
+            log.log(Level.FINE, "Using {0} artifacts from resolution cache entry {1}", new Object[] { size, entry });
+            return Collections.unmodifiableCollection(artifacts);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            log.log(Level.FINE, "Ignoring unreadable resolution cache entry " + entry, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores artifacts into the cache, replacing any previous entry. Failures are logged but never propagated.
+     *
+     * @param key Fingerprint of the resolution
+     * @param artifacts Artifacts to be stored
+     */
+    void put(final String key, final Collection<MavenResolvedArtifact> artifacts) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(artifacts.size());
+                for (MavenResolvedArtifact artifact : artifacts) {
+                    out.writeUTF(artifact.asFile().getAbsolutePath());
+                    writeArtifactInfo(out, artifact);
+                }
+            }
+            try {
+                Files.move(temporary, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to store resolution cache entry " + key + " in " + directory, e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignore) {
+                    // nothing else to do
+                }
+            }
+        }
+    }
+
+    private static void writeArtifactInfo(final DataOutputStream out, final MavenArtifactInfo info) throws IOException {
+        final MavenCoordinate coordinate = info.getCoordinate();
+        out.writeUTF(coordinate.getGroupId());
+        out.writeUTF(coordinate.getArtifactId());
+        writeNullable(out, coordinate.getVersion());
+        out.writeUTF(coordinate.getPackaging().getId());
+        writeNullable(out, coordinate.getClassifier());
+        writeNullable(out, info.getResolvedVersion());
+        out.writeBoolean(info.isSnapshotVersion());
+        writeNullable(out, info.getExtension());
+        out.writeUTF(info.getScope().name());
+        out.writeBoolean(info.isOptional());
+
+        final MavenArtifactInfo[] dependencies = info.getDependencies();
+        out.writeInt(dependencies.length);
+        for (MavenArtifactInfo dependency : dependencies) {
+            writeArtifactInfo(out, dependency);
+        }
+    }
+
+    private static MavenResolvedArtifact readResolvedArtifact(final DataInputStream in, final File file) throws IOException {
+        final MavenCoordinate coordinate = readCoordinate(in);
+        final String resolvedVersion = readNullable(in);
+        final boolean snapshotVersion = in.readBoolean();
+        final String extension = readNullable(in);
+        final ScopeType scope = ScopeType.valueOf(in.readUTF());
+        final boolean optional = in.readBoolean();
+        return new MavenResolvedArtifactImpl(coordinate, resolvedVersion, snapshotVersion, extension, file, scope,
+                readDependencies(in), optional);
+    }
+
+    private static MavenArtifactInfo readArtifactInfo(final DataInputStream in) throws IOException {
+        final MavenCoordinate coordinate = readCoordinate(in);
+        final String resolvedVersion = readNullable(in);
+        final boolean snapshotVersion = in.readBoolean();
+        final String extension = readNullable(in);
+        final ScopeType scope = ScopeType.valueOf(in.readUTF());
+        final boolean optional = in.readBoolean();
+        return new MavenArtifactInfoImpl(coordinate, resolvedVersion, snapshotVersion, extension, scope,
+                readDependencies(in), optional);
+    }
+
+    private static MavenArtifactInfo[] readDependencies(final DataInputStream in) throws IOException {
+        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[in.readInt()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = readArtifactInfo(in);
+        }
+        return dependencies;
+    }
+
+    private static MavenCoordinate readCoordinate(final DataInputStream in) throws IOException {
+        final String groupId = in.readUTF();
+        final String artifactId = in.readUTF();
+        final String version = readNullable(in);
+        final PackagingType packaging = PackagingType.of(in.readUTF());
+        final String classifier = readNullable(in);
+        return MavenCoordinates.createCoordinate(groupId, artifactId, version, packaging, classifier);
+    }
+
+    private static void writeNullable(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -19,12 +19,16 @@ package org.jboss.shrinkwrap.resolver.impl.maven;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
@@ -49,34 +53,66 @@ class PostResolutionFilter {
      */
     static Collection<MavenResolvedArtifact> filter(final Collection<MavenResolvedArtifact> artifactResults, List<MavenDependency> depsForResolution, final MavenResolutionStrategy strategy) {
 
-        final Collection<MavenResolvedArtifact> filteredArtifacts = new ArrayList<>();
+        final Collection<MavenResolvedArtifact> filteredArtifacts = new ArrayList<>(artifactResults.size());
+        final Predicate<MavenResolvedArtifact> accepted = accepting(depsForResolution, strategy);
 
         for (final MavenResolvedArtifact artifact : artifactResults) {
-            final MavenDependency dependency = MavenDependencies.createDependency(artifact.getCoordinate(),
-                    ScopeType.COMPILE, false);
-            // Empty lists OK here because we know the RestrictPOM Filter doesn't consult them
-            if (PackagingType.POM.equals(dependency.getPackaging())) {
+            if (accepted.test(artifact)) {
+                filteredArtifacts.add(artifact);
+            }
+        }
+        return Collections.unmodifiableCollection(filteredArtifacts);
+    }
+
+    /**
+     * Returns a predicate accepting the same artifacts as {@link #filter(Collection, List, MavenResolutionStrategy)},
+     * so that artifacts can be filtered one at a time as they are resolved. The predicate is not thread-safe.
+     *
+     * @param depsForResolution Resolutions for the request. Used for specifying unwanted POMs
+     * @param strategy Resolution strategy
+     * @return Predicate accepting artifacts which are kept
+     */
+    static Predicate<MavenResolvedArtifact> accepting(final List<MavenDependency> depsForResolution,
+            final MavenResolutionStrategy strategy) {
+        final boolean keepRequestedPoms = strategy.getClass().equals(NonTransitiveStrategy.class);
+        return new Predicate<MavenResolvedArtifact>() {
+
+            private Set<MavenDependency> requestedPoms;
+
+            @Override
+            public boolean test(final MavenResolvedArtifact artifact) {
+                final MavenCoordinate coordinate = artifact.getCoordinate();
+                if (!PackagingType.POM.equals(coordinate.getPackaging())) {
+                    return true;
+                }
+                final MavenDependency dependency = MavenDependencies.createDependency(coordinate, ScopeType.COMPILE,
+                        false);
                 log.finer("Filtering out POM dependency resolution: " + dependency
                         + "; its transitive dependencies will be included");
                 // Keeping POM if specified in the resolution (G:A:pom:V) if only the POM should be resolved
-                if (strategy.getClass().equals(NonTransitiveStrategy.class) && checkForPomInDependencies(dependency, depsForResolution)) {
-                    filteredArtifacts.add(artifact);
+                if (keepRequestedPoms) {
+                    if (requestedPoms == null) {
+                        requestedPoms = indexPoms(depsForResolution);
+                    }
+                    return requestedPoms.contains(dependency);
                 }
+                return false;
             }
-            else {
-                filteredArtifacts.add(artifact);
-            }
-        }
-        return Collections.unmodifiableCollection(filteredArtifacts);
+        };
     }
 
-    private static boolean checkForPomInDependencies(final MavenDependency coordinate, final List<MavenDependency> dependenciesForResolution) {
+    /**
+     * Indexes POM dependencies requested for resolution. Dependencies are compared by their coordinates, so the
+     * index preserves equality used by {@link MavenDependency#equals(Object)}.
+     */
+    private static Set<MavenDependency> indexPoms(final List<MavenDependency> dependenciesForResolution) {
+        final Set<MavenDependency> poms = new HashSet<>();
         for (MavenDependency dependency : dependenciesForResolution) {
-            if (dependency.equals(coordinate)) {
-                return true;
+            if (PackagingType.POM.equals(dependency.getPackaging())) {
+                poms.add(dependency);
             }
         }
-        return false;
+        return poms;
     }
 
 }
@@ -0,0 +1,259 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+
+/**
+ * Loads the graph of consumer POM files found in a Maven 4 project-local repository, that is
+ * {@code target/project-local-repo} of a reactor. Every consumer POM is read once per working session, unless the
+ * repository changes, and the POM files of a level of the graph are read in parallel. Their models are built aside, the
+ * model loaded by the session is left untouched. Files are looked up in {@link ProjectLocalRepositoryIndex}.
+ * <p>
+ * Dependencies are added in the same depth-first order as if the consumer POM files were read one by one, so the
+ * outcome of a resolution does not depend on the order the files were read in.
+ */
+final class ProjectLocalGraphLoader {
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final Path repository;
+    private final ProjectLocalRepositoryIndex index;
+    private final boolean virtualThreads;
+    private final ConcurrentMap<File, ConsumerPom> consumerPoms = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a loader of the given project-local repository
+     *
+     * @param repository Path to the project-local repository
+     * @param virtualThreads Whether consumer POM files should be read on virtual threads
+     */
+    ProjectLocalGraphLoader(final Path repository, final boolean virtualThreads) {
+        this.repository = repository;
+        this.index = ProjectLocalRepositoryIndex.of(repository);
+        this.virtualThreads = virtualThreads;
+    }
+
+    Path getRepository() {
+        return repository;
+    }
+
+    /**
+     * Adds dependencies declared by consumer POM files of given dependencies, transitively
+     *
+     * @param dependencies Dependencies which might be found in the project-local repository
+     * @param allDependencies Dependencies already known, new dependencies are added to them
+     * @param reader Reads dependencies declared by a consumer POM file, must not modify the working session
+     * @return {@code true} if a consumer POM file of any of the dependencies was found
+     */
+    boolean addTransitiveDependencies(final Collection<MavenDependency> dependencies,
+        final Set<MavenDependency> allDependencies, final Function<File, Set<MavenDependency>> reader) {
+        final long generation = index.refresh();
+        prefetch(dependencies, reader, generation);
+
+        boolean consumerPomFound = false;
+        for (MavenDependency dependency : dependencies) {
+            consumerPomFound |= addTransitiveDependencies(dependency.getGroupId(), dependency.getArtifactId(),
+                dependency.getVersion(), allDependencies, reader, generation);
+        }
+        return consumerPomFound;
+    }
+
+    /**
+     * Finds an artifact in the project-local repository, as of the last call of
+     * {@link #addTransitiveDependencies(Collection, Set, Function)}
+     *
+     * @param groupId Group ID
+     * @param artifactId Artifact ID
+     * @param version Version
+     * @param classifier Classifier, can be {@code null} or empty
+     * @param extension Extension, {@code jar} is used if it is {@code null} or empty
+     * @return Path to the artifact or {@code null} if there is no such artifact
+     */
+    Path findArtifact(final String groupId, final String artifactId, final String version,
+        final String classifier, final String extension) {
+        final String fileName = toVersionedArtifact(artifactId, version)
+            + (classifier == null || classifier.isEmpty() ? "" : "-" + classifier) + "."
+            + (extension == null || extension.isEmpty() ? "jar" : extension);
+        return index.contains(groupId, artifactId, version, fileName)
+            ? directory(groupId, artifactId, version).resolve(fileName) : null;
+    }
+
+    private boolean addTransitiveDependencies(final String groupId, final String artifactId, final String version,
+        final Set<MavenDependency> allDependencies, final Function<File, Set<MavenDependency>> reader,
+        final long generation) {
+        final File consumerPom = findConsumerPom(groupId, artifactId, version);
+        if (consumerPom == null) {
+            return false;
+        }
+        final Set<MavenDependency> transitiveDependencies = read(consumerPom, reader, generation);
+        transitiveDependencies.removeAll(allDependencies);
+        if (!transitiveDependencies.isEmpty()) {
+            allDependencies.addAll(transitiveDependencies);
+            for (MavenDependency dependency : transitiveDependencies) {
+                addTransitiveDependencies(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+                    allDependencies, reader, generation);
+            }
+        }
+        return true;
+    }
+
+    // reads not yet known consumer POM files level by level, failures are reported once the file is actually needed
+    private void prefetch(final Collection<MavenDependency> dependencies,
+        final Function<File, Set<MavenDependency>> reader, final long generation) {
+        final Set<File> visited = new HashSet<>();
+        List<File> level = findConsumerPoms(dependencies, visited);
+        ExecutorService executor = null;
+        try {
+            while (!level.isEmpty()) {
+                final List<File> unread = new ArrayList<>(level.size());
+                for (File consumerPom : level) {
+                    if (!isRead(consumerPom, generation)) {
+                        unread.add(consumerPom);
+                    }
+                }
+                if (unread.size() == 1) {
+                    consumerPoms.put(unread.get(0), ConsumerPom.read(unread.get(0), reader, generation));
+                } else if (unread.size() > 1) {
+                    if (executor == null) {
+                        executor = MavenRepositorySystem.newWorkerPool(Math.min(unread.size(),
+                            Runtime.getRuntime().availableProcessors()), "shrinkwrap-resolver-project-local-"
+                            + POOL_COUNTER.incrementAndGet() + "-", virtualThreads);
+                    }
+                    final List<Future<?>> futures = new ArrayList<>(unread.size());
+                    for (File consumerPom : unread) {
+                        futures.add(executor.submit(() -> consumerPoms.put(consumerPom, ConsumerPom.read(consumerPom,
+                            reader, generation))));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                }
+
+                final List<MavenDependency> next = new ArrayList<>();
+                for (File consumerPom : level) {
+                    final ConsumerPom read = consumerPoms.get(consumerPom);
+                    if (read != null && read.dependencies != null) {
+                        next.addAll(read.dependencies);
+                    }
+                }
+                level = findConsumerPoms(next, visited);
+            }
+        } catch (InterruptedException e) {
+            // the remaining files are read when needed
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // failures are recorded by the consumer POM itself, this is not expected to happen
+            throw new IllegalStateException("Unable to read consumer POM files in " + repository, e.getCause());
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private List<File> findConsumerPoms(final Collection<MavenDependency> dependencies, final Set<File> visited) {
+        final List<File> found = new ArrayList<>();
+        for (MavenDependency dependency : dependencies) {
+            final File consumerPom = findConsumerPom(dependency.getGroupId(), dependency.getArtifactId(),
+                dependency.getVersion());
+            if (consumerPom != null && visited.add(consumerPom)) {
+                found.add(consumerPom);
+            }
+        }
+        return found;
+    }
+
+    private boolean isRead(final File consumerPom, final long generation) {
+        final ConsumerPom read = consumerPoms.get(consumerPom);
+        return read != null && read.generation == generation;
+    }
+
+    private Set<MavenDependency> read(final File consumerPom, final Function<File, Set<MavenDependency>> reader,
+        final long generation) {
+        ConsumerPom read = consumerPoms.get(consumerPom);
+        if (read == null || read.generation != generation) {
+            read = ConsumerPom.read(consumerPom, reader, generation);
+            consumerPoms.put(consumerPom, read);
+        }
+        if (read.failure != null) {
+            throw read.failure;
+        }
+        return new LinkedHashSet<>(read.dependencies);
+    }
+
+    private File findConsumerPom(final String groupId, final String artifactId, final String version) {
+        final String versionedArtifact = toVersionedArtifact(artifactId, version);
+        if (index.contains(groupId, artifactId, version, versionedArtifact + "-consumer.pom")) {
+            return directory(groupId, artifactId, version).resolve(versionedArtifact + "-consumer.pom").toFile();
+        }
+        // in some versions of maven, consumer pom is just generated with ".pom" extension
+        // in that case, build pom will also exist
+        if (index.contains(groupId, artifactId, version, versionedArtifact + "-build.pom")
+            && index.contains(groupId, artifactId, version, versionedArtifact + ".pom")) {
+            return directory(groupId, artifactId, version).resolve(versionedArtifact + ".pom").toFile();
+        }
+        return null;
+    }
+
+    private Path directory(final String groupId, final String artifactId, final String version) {
+        return repository.resolve(groupId).resolve(artifactId).resolve(version);
+    }
+
+    private static String toVersionedArtifact(final String artifactId, final String version) {
+        return artifactId + "-" + version;
+    }
+
+    private static final class ConsumerPom {
+        private final long generation;
+        private final Set<MavenDependency> dependencies;
+        private final RuntimeException failure;
+
+        private ConsumerPom(final long generation, final Set<MavenDependency> dependencies,
+            final RuntimeException failure) {
+            this.generation = generation;
+            this.dependencies = dependencies;
+            this.failure = failure;
+        }
+
+        private static ConsumerPom read(final File file, final Function<File, Set<MavenDependency>> reader,
+            final long generation) {
+            try {
+                return new ConsumerPom(generation, new LinkedHashSet<>(reader.apply(file)), null);
+            } catch (RuntimeException e) {
+                return new ConsumerPom(generation, null, e);
+            }
+        }
+    }
+}
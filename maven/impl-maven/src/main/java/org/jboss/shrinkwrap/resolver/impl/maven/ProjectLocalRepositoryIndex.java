@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of files in a Maven 4 project-local repository, which has {@code groupId/artifactId/version} layout. Looking up
+ * a file is a hash lookup rather than a file system call.
+ * <p>
+ * The index is shared by all working sessions and it is refreshed by {@link #refresh()}, it is authoritative until the
+ * next refresh. Changes of the repository are detected by comparing modification times of its directories only, as
+ * installing or replacing an artifact writes a new file and so changes modification time of its version directory.
+ */
+final class ProjectLocalRepositoryIndex {
+    private static final Logger log = Logger.getLogger(ProjectLocalRepositoryIndex.class.getName());
+
+    private static final ConcurrentMap<Path, ProjectLocalRepositoryIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Path repository;
+
+    private volatile Map<String, Set<String>> files = Collections.emptyMap();
+    private Map<Path, FileTime> modificationTimes = Collections.emptyMap();
+    private long generation = -1;
+
+    private ProjectLocalRepositoryIndex(final Path repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Returns the index of given project-local repository
+     *
+     * @param repository Path to the project-local repository
+     * @return The index
+     */
+    static ProjectLocalRepositoryIndex of(final Path repository) {
+        return INDEXES.computeIfAbsent(repository.toAbsolutePath().normalize(), ProjectLocalRepositoryIndex::new);
+    }
+
+    /**
+     * Rebuilds the index if the repository has changed since the index was built
+     *
+     * @return Generation of the index, which is incremented whenever the index is rebuilt
+     */
+    synchronized long refresh() {
+        if (generation < 0 || isChanged()) {
+            build();
+            generation++;
+        }
+        return generation;
+    }
+
+    /**
+     * Returns whether the repository contained given file as of the last refresh, without touching the file system
+     *
+     * @param groupId Group ID
+     * @param artifactId Artifact ID
+     * @param version Version
+     * @param fileName Name of the file
+     * @return {@code true} if the file exists
+     */
+    boolean contains(final String groupId, final String artifactId, final String version,
+        final String fileName) {
+        final Set<String> names = files.get(key(groupId, artifactId, version));
+        return names != null && names.contains(fileName);
+    }
+
+    private boolean isChanged() {
+        for (Map.Entry<Path, FileTime> path : modificationTimes.entrySet()) {
+            if (!path.getValue().equals(modificationTime(path.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void build() {
+        final Map<String, Set<String>> files = new HashMap<>();
+        final Map<Path, FileTime> modificationTimes = new HashMap<>();
+        track(repository, modificationTimes);
+        for (Path groupDirectory : list(repository, true)) {
+            track(groupDirectory, modificationTimes);
+            for (Path artifactDirectory : list(groupDirectory, true)) {
+                track(artifactDirectory, modificationTimes);
+                for (Path versionDirectory : list(artifactDirectory, true)) {
+                    track(versionDirectory, modificationTimes);
+                    final Set<String> names = new HashSet<>();
+                    for (Path file : list(versionDirectory, false)) {
+                        names.add(file.getFileName().toString());
+                    }
+                    files.put(key(groupDirectory.getFileName().toString(), artifactDirectory.getFileName().toString(),
+                        versionDirectory.getFileName().toString()), names);
+                }
+            }
+        }
+        this.files = files;
+        this.modificationTimes = modificationTimes;
+        if (log.isLoggable(Level.FINE)) {
+            log.log(Level.FINE, "Indexed {0} artifact versions in project-local repository {1}",
+                new Object[] { files.size(), repository });
+        }
+    }
+
+    // parent directories are tracked as well to notice new versions, artifacts and groups
+    private static void track(final Path directory, final Map<Path, FileTime> modificationTimes) {
+        modificationTimes.put(directory, modificationTime(directory));
+    }
+
+    private static FileTime modificationTime(final Path directory) {
+        try {
+            return Files.getLastModifiedTime(directory);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    private static Iterable<Path> list(final Path directory, final boolean directories) {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        final Set<Path> entries = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path entry : stream) {
+                if (directories == Files.isDirectory(entry)) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            log.log(Level.FINE, "Unable to list " + directory, e);
+        }
+        return entries;
+    }
+
+    private static String key(final String groupId, final String artifactId, final String version) {
+        return groupId + '/' + artifactId + '/' + version;
+    }
+}
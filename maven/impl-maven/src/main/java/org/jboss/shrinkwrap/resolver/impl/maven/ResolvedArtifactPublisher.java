@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RequestTrace;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+
+/**
+ * Publishes artifacts of a resolution as soon as Aether reports their files resolved, rather than once the whole
+ * dependency graph is resolved. Only artifacts requested for nodes of the dependency graph are published, POMs read
+ * while the graph is collected are not. Every artifact is converted and published once, so results of the resolution
+ * can be published again when it completes to catch artifacts Aether did not report.
+ */
+final class ResolvedArtifactPublisher extends AbstractRepositoryListener {
+
+    private final Map<ArtifactRequest, MavenResolvedArtifact> published = new IdentityHashMap<>();
+    private final ArtifactInfoGraph graph;
+    private final Predicate<MavenResolvedArtifact> accepted;
+    private final Consumer<? super MavenResolvedArtifact> consumer;
+
+    /**
+     * Creates a publisher
+     *
+     * @param graph Converted nodes of the dependency graph of the resolution
+     * @param accepted Tells which artifacts are kept by post-resolution filtering
+     * @param consumer Consumer of published artifacts
+     */
+    ResolvedArtifactPublisher(final ArtifactInfoGraph graph, final Predicate<MavenResolvedArtifact> accepted,
+            final Consumer<? super MavenResolvedArtifact> consumer) {
+        this.graph = graph;
+        this.accepted = accepted;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void artifactResolved(final RepositoryEvent event) {
+        final Artifact artifact = event.getArtifact();
+        final RequestTrace trace = event.getTrace();
+        if (event.getException() != null || artifact == null || artifact.getFile() == null || trace == null
+                || !(trace.getData() instanceof ArtifactRequest)) {
+            return;
+        }
+        final ArtifactRequest request = (ArtifactRequest) trace.getData();
+        if (request.getDependencyNode() == null) {
+            // e.g. a POM read while the dependency graph is collected
+            return;
+        }
+        final ArtifactResult result = new ArtifactResult(request);
+        result.setArtifact(artifact);
+        publish(result);
+    }
+
+    /**
+     * Publishes the artifact of given result unless it was already published
+     *
+     * @param result Result of the resolution of the artifact
+     * @return The converted artifact, the same instance for every call with the same request
+     */
+    MavenResolvedArtifact publish(final ArtifactResult result) {
+        final MavenResolvedArtifact artifact;
+        synchronized (published) {
+            final MavenResolvedArtifact previous = published.get(result.getRequest());
+            if (previous != null) {
+                return previous;
+            }
+            artifact = MavenResolvedArtifactImpl.fromArtifactResult(result, graph);
+            published.put(result.getRequest(), artifact);
+            if (!accepted.test(artifact)) {
+                return artifact;
+            }
+        }
+        consumer.accept(artifact);
+        return artifact;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+
+/**
+ * Hands artifacts over from a thread running a resolution to a thread consuming them as a {@link Stream}. The stream
+ * blocks until the next artifact is resolved and ends once the resolution completes. A failure of the resolution is
+ * thrown by the stream after the artifacts resolved before it. Closing the stream marks the resolution as cancelled.
+ */
+final class ResolvedArtifactStream implements Consumer<MavenResolvedArtifact> {
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    @Override
+    public void accept(final MavenResolvedArtifact artifact) {
+        if (!closed) {
+            queue.add(artifact);
+        }
+    }
+
+    /**
+     * Ends the stream after the artifacts accepted so far
+     */
+    void complete() {
+        queue.add(END);
+    }
+
+    /**
+     * Ends the stream after the artifacts accepted so far by throwing given failure
+     *
+     * @param failure Failure of the resolution
+     */
+    void fail(final Throwable failure) {
+        queue.add(new Failure(failure));
+    }
+
+    /**
+     * Tells whether the stream was closed, in which case the resolution feeding it should be aborted
+     *
+     * @return {@code true} if the stream was closed
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns the stream of accepted artifacts, it can be consumed once
+     *
+     * @return The stream
+     */
+    Stream<MavenResolvedArtifact> stream() {
+        final Spliterator<MavenResolvedArtifact> spliterator = new Spliterators.AbstractSpliterator<MavenResolvedArtifact>(
+                Long.MAX_VALUE, Spliterator.NONNULL) {
+
+            private boolean ended;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super MavenResolvedArtifact> action) {
+                if (ended) {
+                    return false;
+                }
+                final Object next = take();
+                if (next == END) {
+                    ended = true;
+                    return false;
+                }
+                if (next instanceof Failure) {
+                    ended = true;
+                    throw ((Failure) next).rethrow();
+                }
+                action.accept((MavenResolvedArtifact) next);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new ResolutionException("Interrupted while waiting for resolved artifacts", e);
+        }
+    }
+
+    private void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+
+        RuntimeException rethrow() {
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return new ResolutionException("Unable to resolve artifacts", cause);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
 import org.apache.maven.settings.building.SettingsBuildingRequest;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionPhase;
 import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
 
 /**
@@ -36,6 +38,8 @@ public class SettingsManager {
 
     private Settings settings;
 
+    private ResolutionMetrics resolutionMetrics;
+
     // make sure that programmatic call to offline method is always preserved
     private Boolean programmaticOffline;
 
@@ -59,7 +63,12 @@ public class SettingsManager {
         request.setSystemProperties(SecurityActions.getProperties());
 
         MavenSettingsBuilder builder = new MavenSettingsBuilder();
-        this.settings = builder.buildSettings(request);
+        final long start = System.nanoTime();
+        try {
+            this.settings = builder.buildSettings(request);
+        } finally {
+            settingsBuilt(start);
+        }
 
         // ensure we keep offline(boolean) if previously set
         propagateProgrammaticOfflineIntoSettings();
@@ -72,7 +81,12 @@ public class SettingsManager {
      */
     protected Settings getSettings() {
         if (this.settings == null) {
-            this.settings = new MavenSettingsBuilder().buildDefaultSettings();
+            final long start = System.nanoTime();
+            try {
+                this.settings = new MavenSettingsBuilder().buildDefaultSettings();
+            } finally {
+                settingsBuilt(start);
+            }
             // ensure we keep offline(boolean) if previously set
             propagateProgrammaticOfflineIntoSettings();
         }
@@ -104,7 +118,22 @@ public class SettingsManager {
         return this.getSettings().isOffline();
     }
 
+    /**
+     * Sets a listener notified about durations of settings building
+     *
+     * @param resolutionMetrics the listener, can be {@code null}
+     */
+    protected void setResolutionMetrics(ResolutionMetrics resolutionMetrics) {
+        this.resolutionMetrics = resolutionMetrics;
+    }
+
     // utility methods
+    private void settingsBuilt(long start) {
+        if (this.resolutionMetrics != null) {
+            this.resolutionMetrics.phaseCompleted(ResolutionPhase.SETTINGS_BUILDING, System.nanoTime() - start);
+        }
+    }
+
     private void propagateProgrammaticOfflineIntoSettings() {
         if (this.programmaticOffline != null && this.settings != null) {
             this.settings.setOffline(this.programmaticOffline);
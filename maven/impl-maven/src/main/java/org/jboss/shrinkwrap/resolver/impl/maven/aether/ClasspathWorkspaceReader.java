@@ -18,7 +18,7 @@
 package org.jboss.shrinkwrap.resolver.impl.maven.aether;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,28 +26,21 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import javax.xml.xpath.XPathFactoryConfigurationException;
-
 import org.eclipse.aether.artifact.Artifact;
-import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.repository.WorkspaceRepository;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvent;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvents;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 /**
  * {@link WorkspaceReader} implementation capable of reading from the ClassPath
+ * <p>
+ * The classpath is indexed on the first lookup, subsequent lookups are hash based. Instances are thread safe.
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
@@ -74,94 +67,62 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
     static final String FLATTENED_POM_PATH_KEY = "org.apache.maven.flattened-pom-path";
 
     /**
-     * Contains File object and retrieved cached isFile and isDirectory values
+     * Classpath entry that might provide an artifact, along with its position on the classpath
      */
-    private static final class FileInfo {
+    private static final class Candidate {
+        private final int position;
         private final File file;
-        private final boolean isFile;
-        private final boolean isDirectory;
 
-        private FileInfo(final File file, final boolean isFile, final boolean isDirectory) {
+        private Candidate(final int position, final File file) {
+            this.position = position;
             this.file = file;
-            this.isFile = isFile;
-            this.isDirectory = isDirectory;
-        }
-
-        private FileInfo(final File file) {
-            this(file, file.isFile(), file.isDirectory());
-        }
-
-        private FileInfo(final String classpathEntry) {
-            this(new File(classpathEntry));
-        }
-
-        private File getFile() {
-            return file;
-        }
-
-        private boolean isFile() {
-            return isFile;
-        }
-
-        private boolean isDirectory() {
-            return isDirectory;
         }
     }
 
-    private final Set<String> classPathEntries = new LinkedHashSet<>();
-
     /**
-     * Cache classpath File objects and retrieved isFile isDirectory values. Key is a classpath entry
-     *
-     * @see #getClasspathFileInfo(String)
+     * Immutable index of the classpath, built once per reader so that lookups do not need to scan all classpath entries
      */
-    private final Map<String, FileInfo> classpathFileInfoCache = new HashMap<>();
+    private static final class ClasspathIndex {
+        /**
+         * Projects found in directory entries (e.g. {@code target/classes}). Key is groupId:artifactId:version, value
+         * points to the pom.xml file of the project
+         */
+        private final Map<String, Candidate> projects = new HashMap<>();
+
+        /**
+         * Archives found in file entries. Key is file name without extension, value holds all candidates in classpath order
+         */
+        private final Map<String, List<Candidate>> archives = new HashMap<>();
+    }
 
-    /**
-     * Cache pom File objects and retrieved isFile isDirectory values. Key - child File
-     *
-     * @see #getPomFileInfo(java.io.File)
-     */
-    private final Map<File, FileInfo> pomFileInfoCache = new HashMap<>();
+    private final Set<String> classPathEntries = new LinkedHashSet<>();
 
     /**
      * Cache Found in classpath artifacts. Key is a pom file.
      *
      * @see #getFoundArtifact(java.io.File)
      */
-    private final Map<File, Artifact> foundArtifactCache = new HashMap<>();
+    private final Map<File, Artifact> foundArtifactCache = new ConcurrentHashMap<>();
 
     /**
      * The relative path of the "flattened" pom.xml to prefer over the regular pom.xml, if present.
      *
-     * @see #createPomFileInfo(File)
+     * @see #choosePomToLoad(File)
      * @since <a href="https://issues.redhat.com/browse/SHRINKRES-299">SHRINKRES-299</a>
      */
     private final String flattenedPomPath;
 
     /**
-     * Reuse DocumentBuilder.
+     * Lazily built index of the classpath
      *
-     * @see #getDocumentBuilder()
+     * @see #getIndex()
      */
-    private DocumentBuilder documentBuilder;
+    private volatile ClasspathIndex index;
 
     /**
-     * Reuse XPath
-     *
-     * @see #getXPath()
+     * Reads coordinates of projects found on the classpath
      */
-    private XPath xPath;
-
-    /*
-     * Compiled lazy-loaded xpath expressions. See getter methods.
-     */
-    private XPathExpression xPathParentGroupIdExpression;
-    private XPathExpression xPathGroupIdExpression;
-    private XPathExpression xPathArtifactIdExpression;
-    private XPathExpression xPathTypeExpression;
-    private XPathExpression xPathVersionExpression;
-    private XPathExpression xPathParentVersionExpression;
+    private final PomCoordinatesReader pomCoordinatesReader = new PomCoordinatesReader();
 
     public ClasspathWorkspaceReader() {
         final String classPath = SecurityActions.getProperty(CLASS_PATH_KEY);
@@ -181,63 +142,59 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
 
     @Override
     public File findArtifact(final Artifact artifact) {
-        for (String classpathEntry : classPathEntries) {
-            final FileInfo fileInfo = getClasspathFileInfo(classpathEntry);
-            final File file = fileInfo.getFile();
+        final ResolverEvent event = ResolverEvents.workspaceLookup(artifact);
+        final File file = lookup(artifact);
+        event.complete(file != null);
+        return file;
+    }
 
-            if (fileInfo.isDirectory()) {
-                // TODO: This is not reliable, file might have different name
-                // FIXME: Surefire might user jar in the classpath instead of the target/classes
-                final FileInfo pomFileInfo = getPomFileInfo(file);
-                if (pomFileInfo != null && pomFileInfo.isFile()) {
-                    final File pomFile = pomFileInfo.getFile();
-                    final Artifact foundArtifact = getFoundArtifact(pomFile);
-                    if (areEquivalent(artifact, foundArtifact)) {
-                        return pomFile;
-                    }
-                }
-            }
-            // this is needed for Surefire when executed as 'mvn package'
-            else if (fileInfo.isFile()) {
+    private File lookup(final Artifact artifact) {
+        final ClasspathIndex index = getIndex();
 
-                final StringBuilder name = new StringBuilder(artifact.getArtifactId()).append("-").append(
-                        artifact.getVersion());
+        final StringBuilder name = new StringBuilder(artifact.getArtifactId()).append("-").append(artifact.getVersion());
+        // SHRINKRES-102, consider classifier as well
+        if (!Validate.isNullOrEmpty(artifact.getClassifier())) {
+            name.append("-").append(artifact.getClassifier());
+        }
 
-                // SHRINKRES-102, consider classifier as well
-                if (!Validate.isNullOrEmpty(artifact.getClassifier())) {
-                    name.append("-").append(artifact.getClassifier());
+        // the first matching classpath entry wins, no matter whether it is a directory or a file
+        final Candidate project = index.projects.get(toKey(artifact.getGroupId(), artifact.getArtifactId(),
+                artifact.getVersion()));
+        final List<Candidate> archives = index.archives.get(name.toString());
+        if (archives != null) {
+            for (Candidate archive : archives) {
+                if (project != null && project.position < archive.position) {
+                    break;
                 }
-
-                String candidateName = file.getName();
-                int suffixPosition = candidateName.lastIndexOf('.');
-                if (suffixPosition != -1) {
-                    candidateName = candidateName.substring(0, suffixPosition);
+                final File file = findInArchive(artifact, name, archive.file);
+                if (file != null) {
+                    return file;
                 }
+            }
+        }
+        return project != null ? project.file : null;
+    }
 
-                // TODO: This is nasty
-                // we need to get a a pom.xml file to be sure we fetch transitive deps as well
-                if (candidateName.contentEquals(name)) {
-                    if ("pom".equals(artifact.getExtension())) {
-                        // try to get pom file for the project
-                        final FileInfo pomFileInfo = getPomFileInfo(file);
-                        if (pomFileInfo != null && pomFileInfo.isFile()) {
-                            final File pomFile = pomFileInfo.getFile();
-                            final Artifact foundArtifact = getFoundArtifact(pomFile);
-                            if (areEquivalent(artifact, foundArtifact)) {
-                                return pomFile;
-                            }
-                        }
-                    }
-
-                    // we are looking for a non pom artifact, let's get it
-                    name.append(".").append(artifact.getExtension());
-                    if (file.getName().endsWith(name.toString())) {
-                        // return raw file
-                        return file;
-                    }
+    // this is needed for Surefire when executed as 'mvn package'
+    private File findInArchive(final Artifact artifact, final CharSequence name, final File file) {
+        // TODO: This is nasty
+        // we need to get a a pom.xml file to be sure we fetch transitive deps as well
+        if ("pom".equals(artifact.getExtension())) {
+            // try to get pom file for the project
+            final File pomFile = getPomFile(file);
+            if (pomFile != null && pomFile.isFile()) {
+                final Artifact foundArtifact = getFoundArtifact(pomFile);
+                if (areEquivalent(artifact, foundArtifact)) {
+                    return pomFile;
                 }
             }
         }
+
+        // we are looking for a non pom artifact, let's get it
+        if (file.getName().endsWith(name + "." + artifact.getExtension())) {
+            // return raw file
+            return file;
+        }
         return null;
     }
 
@@ -270,27 +227,57 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return new LinkedHashSet<>(Arrays.asList(classPath.split(String.valueOf(File.pathSeparatorChar))));
     }
 
-    private FileInfo getClasspathFileInfo(final String classpathEntry) {
-        FileInfo classpathFileInfo = classpathFileInfoCache.get(classpathEntry);
-        if (classpathFileInfo == null) {
-            classpathFileInfo = new FileInfo(classpathEntry);
-            classpathFileInfoCache.put(classpathEntry, classpathFileInfo);
+    private ClasspathIndex getIndex() {
+        ClasspathIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = createIndex();
+                    this.index = index;
+                }
+            }
         }
-        return classpathFileInfo;
+        return index;
     }
 
-    private FileInfo getPomFileInfo(final File childFile) {
-        FileInfo pomFileInfo = pomFileInfoCache.get(childFile);
-        if (pomFileInfo == null) {
-            pomFileInfo = createPomFileInfo(childFile);
-            if (pomFileInfo != null) {
-                pomFileInfoCache.put(childFile, pomFileInfo);
+    private ClasspathIndex createIndex() {
+        final ClasspathIndex index = new ClasspathIndex();
+        int position = 0;
+        for (String classpathEntry : classPathEntries) {
+            final File file = new File(classpathEntry);
+            final Candidate candidate = new Candidate(position++, file);
+
+            if (file.isDirectory()) {
+                // TODO: This is not reliable, file might have different name
+                // FIXME: Surefire might user jar in the classpath instead of the target/classes
+                final File pomFile = getPomFile(file);
+                if (pomFile != null && pomFile.isFile()) {
+                    final Artifact foundArtifact = getFoundArtifact(pomFile);
+                    index.projects.putIfAbsent(toKey(foundArtifact.getGroupId(), foundArtifact.getArtifactId(),
+                            foundArtifact.getVersion()), new Candidate(candidate.position, pomFile));
+                }
+            } else if (file.isFile()) {
+                String candidateName = file.getName();
+                int suffixPosition = candidateName.lastIndexOf('.');
+                if (suffixPosition != -1) {
+                    candidateName = candidateName.substring(0, suffixPosition);
+                }
+                index.archives.computeIfAbsent(candidateName, k -> new ArrayList<>(1)).add(candidate);
             }
         }
-        return pomFileInfo;
+        if (log.isLoggable(Level.FINE)) {
+            log.log(Level.FINE, "Indexed {0} projects and {1} archives on the classpath", new Object[] {
+                    index.projects.size(), index.archives.size() });
+        }
+        return index;
+    }
+
+    private static String toKey(final String groupId, final String artifactId, final String version) {
+        return groupId + ":" + artifactId + ":" + version;
     }
 
-    private FileInfo createPomFileInfo(final File childFile) {
+    private File getPomFile(final File childFile) {
 
         // assuming that directory entry on classpath is target/classes directory, we need
         // to go two directories up in the structure and grab a pom.xml file from there
@@ -298,8 +285,7 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         if (parent != null) {
             parent = parent.getParentFile();
             if (parent != null) {
-                final File pomFile = new File(parent, "pom.xml");
-                return new FileInfo(pomFile);
+                return new File(parent, "pom.xml");
             }
         }
 
@@ -323,26 +309,7 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
 
             // TODO: load pom using Maven Model?
             // This might include a cycle in graph reconstruction, to be investigated
-            final Document pom = loadPom(choosePomToLoad(pomFile));
-
-            String groupId = getXPathGroupIdExpression().evaluate(pom);
-            String artifactId = getXPathArtifactIdExpression().evaluate(pom);
-            String type = getXPathTypeExpression().evaluate(pom);
-            String version = getXPathVersionExpression().evaluate(pom);
-
-            if (Validate.isNullOrEmpty(groupId)) {
-                groupId = getXPathParentGroupIdExpression().evaluate(pom);
-            }
-            if (Validate.isNullOrEmpty(type)) {
-                type = "jar";
-            }
-            if (version == null || version.isEmpty()) {
-                version = getXPathParentVersionExpression().evaluate(pom);
-            }
-
-            final Artifact foundArtifact = new DefaultArtifact(groupId + ":" + artifactId + ":" + type + ":" + version);
-            foundArtifact.setFile(pomFile);
-            return foundArtifact;
+            return pomCoordinatesReader.read(choosePomToLoad(pomFile)).setFile(pomFile);
         } catch (final Exception e) {
             throw new RuntimeException("Could not parse pom.xml: " + pomFile, e);
         }
@@ -361,78 +328,4 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return regularPomFile;
     }
 
-    private Document loadPom(final File pom) throws IOException, SAXException, ParserConfigurationException {
-        final DocumentBuilder documentBuilder = getDocumentBuilder();
-        return documentBuilder.parse(pom);
-    }
-
-    private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
-        if (documentBuilder == null) {
-            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            documentBuilder = factory.newDocumentBuilder();
-        }
-        return documentBuilder;
-    }
-
-    /*
-     * XPath expressions reuse
-     */
-
-    private XPath getXPath() {
-        if (xPath == null) {
-            XPathFactory factory;
-            try {
-                factory = XPathFactory.newInstance(XPathFactory.DEFAULT_OBJECT_MODEL_URI,
-                                                   "com.sun.org.apache.xpath.internal.jaxp.XPathFactoryImpl",
-                                                   ClassLoader.getSystemClassLoader());
-            } catch (XPathFactoryConfigurationException e) {
-                factory = XPathFactory.newInstance();
-            }
-            xPath = factory.newXPath();
-        }
-        return xPath;
-    }
-
-    private XPathExpression getXPathParentGroupIdExpression() throws XPathExpressionException {
-        if (xPathParentGroupIdExpression == null) {
-            xPathParentGroupIdExpression = getXPath().compile("/project/parent/groupId");
-        }
-        return xPathParentGroupIdExpression;
-    }
-
-    private XPathExpression getXPathGroupIdExpression() throws XPathExpressionException {
-        if (xPathGroupIdExpression == null) {
-            xPathGroupIdExpression = getXPath().compile("/project/groupId");
-        }
-        return xPathGroupIdExpression;
-    }
-
-    private XPathExpression getXPathArtifactIdExpression() throws XPathExpressionException {
-        if (xPathArtifactIdExpression == null) {
-            xPathArtifactIdExpression = getXPath().compile("/project/artifactId");
-        }
-        return xPathArtifactIdExpression;
-    }
-
-    private XPathExpression getXPathTypeExpression() throws XPathExpressionException {
-        if (xPathTypeExpression == null) {
-            xPathTypeExpression = getXPath().compile("/project/packaging");
-        }
-        return xPathTypeExpression;
-    }
-
-    private XPathExpression getXPathVersionExpression() throws XPathExpressionException {
-        if (xPathVersionExpression == null) {
-            xPathVersionExpression = getXPath().compile("/project/version");
-        }
-        return xPathVersionExpression;
-    }
-
-    private XPathExpression getXPathParentVersionExpression() throws XPathExpressionException {
-        if (xPathParentVersionExpression == null) {
-            xPathParentVersionExpression = getXPath().compile("/project/parent/version");
-        }
-        return xPathParentVersionExpression;
-    }
-
 }
@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
+
+/**
+ * Reads coordinates of a project from its pom.xml file. The file is streamed and reading stops as soon as
+ * {@code <dependencies>} or {@code <build>} section is reached after artifactId, packaging and groupId and version,
+ * either declared or inherited from parent, were read, as the rest of a typical POM is not needed. Elements of a POM
+ * can be declared in any order though, so if any of them is still missing, the remaining elements of the project are
+ * read as well.
+ * <p>
+ * Instances are stateless and thread safe.
+ */
+final class PomCoordinatesReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static final int PROJECT_DEPTH = 1;
+    private static final int PROJECT_CHILD_DEPTH = 2;
+    private static final int PARENT_CHILD_DEPTH = 3;
+
+    /**
+     * Reads the coordinates
+     *
+     * @param pomFile
+     * pom.xml file to be read
+     * @return artifact with groupId, artifactId, packaging as extension and version of the project, groupId and version
+     * are inherited from parent if not specified
+     * @throws IOException
+     * If the file cannot be read
+     * @throws XMLStreamException
+     * If the file is not a valid XML
+     */
+    Artifact read(final File pomFile) throws IOException, XMLStreamException {
+        String groupId = null;
+        String artifactId = null;
+        String packaging = null;
+        String version = null;
+        String parentGroupId = null;
+        String parentVersion = null;
+
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(pomFile.toPath()))) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+            try {
+                boolean inParent = false;
+                int depth = 0;
+                reading: while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (depth == PROJECT_CHILD_DEPTH) {
+                            inParent = false;
+                        }
+                        depth--;
+                        continue;
+                    }
+                    if (event != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    depth++;
+                    final String name = reader.getLocalName();
+                    if (depth == PROJECT_DEPTH) {
+                        if (!"project".equals(name)) {
+                            break;
+                        }
+                    } else if (depth == PROJECT_CHILD_DEPTH) {
+                        switch (name) {
+                            case "parent":
+                                inParent = true;
+                                break;
+                            case "groupId":
+                                groupId = text(reader);
+                                depth--;
+                                break;
+                            case "artifactId":
+                                artifactId = text(reader);
+                                depth--;
+                                break;
+                            case "packaging":
+                                packaging = text(reader);
+                                depth--;
+                                break;
+                            case "version":
+                                version = text(reader);
+                                depth--;
+                                break;
+                            case "dependencies":
+                            case "build":
+                                if ((groupId != null || parentGroupId != null) && artifactId != null
+                                        && (version != null || parentVersion != null) && packaging != null) {
+                                    break reading;
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                    } else if (depth == PARENT_CHILD_DEPTH && inParent) {
+                        if ("groupId".equals(name)) {
+                            parentGroupId = text(reader);
+                            depth--;
+                        } else if ("version".equals(name)) {
+                            parentVersion = text(reader);
+                            depth--;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        if (Validate.isNullOrEmpty(groupId)) {
+            groupId = parentGroupId;
+        }
+        if (Validate.isNullOrEmpty(packaging)) {
+            packaging = "jar";
+        }
+        if (Validate.isNullOrEmpty(version)) {
+            version = parentVersion;
+        }
+
+        return new DefaultArtifact(nullToEmpty(groupId) + ":" + nullToEmpty(artifactId) + ":" + packaging + ":"
+                + nullToEmpty(version));
+    }
+
+    // reads text of current element, moving reader to its end element
+    private static String text(final XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText().trim();
+    }
+
+    private static String nullToEmpty(final String value) {
+        return value == null ? "" : value;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.MirrorSelector;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.VolatileVersions;
+
+/**
+ * JVM wide cache of collected dependency graphs. Collecting a graph requires reading descriptors of all transitive
+ * dependencies, which is by far the most expensive part of a resolution; the cache allows to skip it when the very same
+ * request is resolved repeatedly, e.g. by multiple tests loading the same pom.xml file.
+ * <p>
+ * The cache is enabled by {@code org.jboss.shrinkwrap.resolver.maven.enableDependencyGraphCache} system property. It is
+ * a LRU cache bounded by total number of cached graph nodes, set by
+ * {@code org.jboss.shrinkwrap.resolver.maven.dependencyGraphCacheSize} system property. Graphs containing a SNAPSHOT,
+ * a version range or a LATEST or RELEASE meta-version are not cached, as they might be collected differently once
+ * repositories are updated.
+ * <p>
+ * Graphs are copied both when stored and when retrieved, so callers are free to modify them.
+ */
+public final class DependencyGraphCache {
+    private static final Logger log = Logger.getLogger(DependencyGraphCache.class.getName());
+
+    /**
+     * Enables the cache
+     */
+    public static final String ENABLE_DEPENDENCY_GRAPH_CACHE_KEY = "org.jboss.shrinkwrap.resolver.maven.enableDependencyGraphCache";
+
+    /**
+     * Maximal number of dependency nodes held by the cache
+     */
+    static final String DEPENDENCY_GRAPH_CACHE_SIZE_KEY = "org.jboss.shrinkwrap.resolver.maven.dependencyGraphCacheSize";
+
+    private static final int DEFAULT_MAX_NODES = 50000;
+
+    private static final DependencyGraphCache INSTANCE = new DependencyGraphCache(Integer.getInteger(
+            DEPENDENCY_GRAPH_CACHE_SIZE_KEY, DEFAULT_MAX_NODES));
+
+    private final Map<Key, CachedGraph> graphs = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxNodes;
+    private int nodes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    DependencyGraphCache(final int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the cache shared by all {@link MavenRepositorySystem} instances
+     *
+     * @return The shared cache
+     */
+    public static DependencyGraphCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether the cache should be used
+     *
+     * @return {@code true} if the cache was enabled
+     */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLE_DEPENDENCY_GRAPH_CACHE_KEY);
+    }
+
+    /**
+     * Returns a copy of the graph collected for given key
+     *
+     * @param key The key
+     * @return Root of the graph or {@code null} if there is no such graph
+     */
+    DependencyNode get(final Key key) {
+        final CachedGraph graph;
+        synchronized (this) {
+            graph = graphs.get(key);
+        }
+        if (graph == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        if (log.isLoggable(Level.FINER)) {
+            log.log(Level.FINER, "Reusing collected dependency graph for {0}", key);
+        }
+        return copy(graph.root, new IdentityHashMap<>(graph.nodes));
+    }
+
+    /**
+     * Stores a copy of the graph collected for given key, unless the graph contains versions which might be collected
+     * differently over time
+     *
+     * @param key The key
+     * @param root Root of the graph
+     */
+    void put(final Key key, final DependencyNode root) {
+        if (VolatileVersions.isVolatile(root)) {
+            if (log.isLoggable(Level.FINER)) {
+                log.log(Level.FINER, "Not caching dependency graph with volatile versions for {0}", key);
+            }
+            return;
+        }
+        final IdentityHashMap<DependencyNode, DependencyNode> copies = new IdentityHashMap<>();
+        final CachedGraph graph = new CachedGraph(copy(root, copies), copies.size());
+        if (graph.nodes > maxNodes) {
+            return;
+        }
+        synchronized (this) {
+            final CachedGraph previous = graphs.put(key, graph);
+            nodes += graph.nodes - (previous == null ? 0 : previous.nodes);
+            final Iterator<CachedGraph> eldest = graphs.values().iterator();
+            while (nodes > maxNodes && eldest.hasNext()) {
+                nodes -= eldest.next().nodes;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns number of requests served from the cache
+     *
+     * @return Number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns number of requests that were not found in the cache
+     *
+     * @return Number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns number of graphs currently held by the cache
+     *
+     * @return Number of cached graphs
+     */
+    public synchronized int getGraphCount() {
+        return graphs.size();
+    }
+
+    /**
+     * Returns total number of dependency nodes currently held by the cache
+     *
+     * @return Number of cached nodes
+     */
+    public synchronized int getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Removes all graphs from the cache and resets its statistics
+     */
+    public void clear() {
+        synchronized (this) {
+            graphs.clear();
+            nodes = 0;
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    // graphs might share nodes or even contain cycles, so a node is copied only once
+    private static DependencyNode copy(final DependencyNode node, final Map<DependencyNode, DependencyNode> copies) {
+        DependencyNode copy = copies.get(node);
+        if (copy != null) {
+            return copy;
+        }
+        copy = new DefaultDependencyNode(node);
+        copies.put(node, copy);
+        final List<DependencyNode> children = new ArrayList<>(node.getChildren().size());
+        for (DependencyNode child : node.getChildren()) {
+            children.add(copy(child, copies));
+        }
+        copy.setChildren(children);
+        return copy;
+    }
+
+    private static final class CachedGraph {
+        private final DependencyNode root;
+        private final int nodes;
+
+        private CachedGraph(final DependencyNode root, final int nodes) {
+            this.root = root;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * Everything a collected dependency graph depends on
+     */
+    static final class Key {
+        private final String request;
+        private final DependencySelector selector;
+        private final String localRepository;
+        private final boolean offline;
+        private final String workspaceReader;
+
+        Key(final String request, final DependencySelector selector, final String localRepository,
+                final boolean offline, final String workspaceReader) {
+            this.request = request;
+            this.selector = selector;
+            this.localRepository = localRepository;
+            this.offline = offline;
+            this.workspaceReader = workspaceReader;
+        }
+
+        /**
+         * Creates a key for given request collected within given session
+         *
+         * @param session The session, its dependency selector and the type of its workspace reader are part of the key
+         * @param request The request
+         * @return The key
+         */
+        static Key of(final RepositorySystemSession session, final CollectRequest request) {
+            final StringBuilder sb = new StringBuilder(256).append("root=");
+            if (request.getRoot() != null) {
+                append(sb, request.getRoot());
+            } else {
+                sb.append(request.getRootArtifact());
+            }
+            sb.append(", dependencies=[");
+            for (Dependency dependency : request.getDependencies()) {
+                append(sb, dependency).append(", ");
+            }
+            sb.append("], managed=[");
+            for (Dependency dependency : request.getManagedDependencies()) {
+                append(sb, dependency).append(", ");
+            }
+            sb.append("], repositories=[");
+            final MirrorSelector mirrorSelector = session.getMirrorSelector();
+            for (RemoteRepository repository : request.getRepositories()) {
+                final RemoteRepository mirror = mirrorSelector == null ? null : mirrorSelector.getMirror(repository);
+                final RemoteRepository effective = mirror == null ? repository : mirror;
+                sb.append(repository.getId()).append('=').append(effective.getUrl()).append(", ");
+            }
+            sb.append(']');
+            // artifacts found by a workspace reader, e.g. on the classpath, change the collected graph
+            final WorkspaceReader reader = session.getWorkspaceReader();
+            return new Key(sb.toString(), session.getDependencySelector(),
+                    session.getLocalRepository().getBasedir().getAbsolutePath(), session.isOffline(),
+                    reader == null ? null : reader.getClass().getName());
+        }
+
+        private static StringBuilder append(final StringBuilder sb, final Dependency dependency) {
+            sb.append(dependency.getArtifact()).append(' ').append(dependency.getScope()).append(' ')
+                    .append(dependency.getOptional());
+            for (Exclusion exclusion : dependency.getExclusions()) {
+                sb.append(" -").append(exclusion);
+            }
+            return sb;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return offline == key.offline && request.equals(key.request) && Objects.equals(selector, key.selector)
+                    && localRepository.equals(key.localRepository) && Objects.equals(workspaceReader, key.workspaceReader);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(request, selector, localRepository, offline, workspaceReader);
+        }
+
+        @Override
+        public String toString() {
+            return request + ", selector=" + selector + ", localRepository=" + localRepository + ", offline=" + offline
+                    + ", workspaceReader=" + workspaceReader;
+        }
+    }
+}
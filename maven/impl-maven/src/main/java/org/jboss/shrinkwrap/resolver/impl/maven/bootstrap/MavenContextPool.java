@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process-wide pool of MIMA {@link Context} instances. Creating a {@link Context} bootstraps a complete repository system,
+ * so {@link MavenRepositorySystem} instances with the same effective configuration share a single one.
+ * <p>
+ * Working sessions have no lifecycle that would tell when a context is no longer used, so pooled contexts live as long
+ * as the JVM and they are closed when it shuts down. There is one context per local repository and offline mode.
+ */
+final class MavenContextPool {
+    private static final Logger log = Logger.getLogger(MavenContextPool.class.getName());
+
+    /**
+     * Disables sharing of contexts, each {@link MavenRepositorySystem} then bootstraps its own one
+     */
+    static final String DISABLE_CONTEXT_SHARING_KEY = "org.jboss.shrinkwrap.resolver.maven.disableContextSharing";
+
+    static final MavenContextPool INSTANCE = new MavenContextPool();
+
+    private final Map<Key, Context> contexts = new HashMap<>();
+
+    private boolean shutdown = false;
+
+    private MavenContextPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll, "ShrinkWrap Resolver context pool shutdown"));
+    }
+
+    /**
+     * Returns a context for given configuration, bootstrapping it if there is none yet
+     *
+     * @param key configuration of the context
+     * @return the shared context
+     */
+    synchronized Context get(final Key key) {
+        if (shutdown) {
+            throw new IllegalStateException("JVM is shutting down, Maven repository system is no longer available");
+        }
+        Context context = contexts.get(key);
+        if (context == null) {
+            if (log.isLoggable(Level.FINE)) {
+                log.log(Level.FINE, "Bootstrapping shared Maven repository system for {0}", key);
+            }
+            context = key.create();
+            contexts.put(key, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns number of contexts currently held by the pool
+     *
+     * @return number of pooled contexts
+     */
+    synchronized int size() {
+        return contexts.size();
+    }
+
+    private void closeAll() {
+        final List<Map.Entry<Key, Context>> toClose;
+        synchronized (this) {
+            shutdown = true;
+            toClose = new ArrayList<>(contexts.entrySet());
+            contexts.clear();
+        }
+        for (Map.Entry<Key, Context> entry : toClose) {
+            close(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void close(final Key key, final Context context) {
+        try {
+            context.close();
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Unable to close Maven repository system for " + key, e);
+        }
+    }
+
+    /**
+     * Effective configuration a {@link Context} was bootstrapped with
+     */
+    static final class Key {
+        private final ContextOverrides.ChecksumPolicy checksumPolicy;
+        private final String localRepository;
+        private final boolean offline;
+
+        /**
+         * Creates a key
+         *
+         * @param checksumPolicy checksum policy, must not be {@code null}
+         * @param localRepository path to the local repository, {@code null} for the Maven default
+         * @param offline whether the context works offline
+         */
+        Key(final ContextOverrides.ChecksumPolicy checksumPolicy, final String localRepository, final boolean offline) {
+            this.checksumPolicy = Objects.requireNonNull(checksumPolicy, "checksumPolicy must be specified");
+            this.localRepository = localRepository == null || localRepository.isEmpty() ? null
+                    : Paths.get(localRepository).toAbsolutePath().normalize().toString();
+            this.offline = offline;
+        }
+
+        Context create() {
+            ContextOverrides.Builder builder = ContextOverrides.create().checksumPolicy(checksumPolicy).offline(offline);
+            if (localRepository != null) {
+                builder.withLocalRepositoryOverride(Paths.get(localRepository));
+            }
+            return Runtimes.INSTANCE.getRuntime().create(builder.build());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return offline == key.offline && checksumPolicy == key.checksumPolicy
+                    && Objects.equals(localRepository, key.localRepository);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(checksumPolicy, localRepository, offline);
+        }
+
+        @Override
+        public String toString() {
+            return "checksumPolicy=" + checksumPolicy + ", localRepository=" + localRepository + ", offline=" + offline;
+        }
+    }
+}
@@ -18,19 +18,26 @@ package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
-import eu.maveniverse.maven.mima.context.Runtimes;
+import java.io.Closeable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.maven.settings.Settings;
 import org.eclipse.aether.DefaultRepositorySystemSession;
-import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.resolution.ArtifactRequest;
@@ -44,8 +51,13 @@ import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.AcceptAllFilter;
 import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionPhase;
 import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvent;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvents;
 
 /**
  * Abstraction of the repository system for purposes of dependency resolution used by Maven
@@ -53,16 +65,107 @@ import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
  */
-public class MavenRepositorySystem {
+public class MavenRepositorySystem implements Closeable {
 
+    /**
+     * Default of whether worker threads started by ShrinkWrap Resolver are virtual threads
+     */
+    public static final String VIRTUAL_THREADS_KEY = "org.jboss.shrinkwrap.resolver.maven.virtualThreads";
+
+    private static final Logger log = Logger.getLogger(MavenRepositorySystem.class.getName());
+
+    private static final ContextOverrides.ChecksumPolicy CHECKSUM_POLICY = ContextOverrides.ChecksumPolicy.WARN;
+
+    private final MavenContextPool.Key key;
+    private final boolean shared;
     private final Context context;
+    private boolean closed = false;
 
     /**
-     * Creates a Maven repository system
+     * Creates a Maven repository system with default configuration
      */
     public MavenRepositorySystem() {
-        this.context = getContext();
+        this(new MavenContextPool.Key(CHECKSUM_POLICY, null, false));
+    }
+
+    private MavenRepositorySystem(final MavenContextPool.Key key) {
+        this.key = key;
+        this.shared = !Boolean.getBoolean(MavenContextPool.DISABLE_CONTEXT_SHARING_KEY);
+        this.context = shared ? MavenContextPool.INSTANCE.get(key) : key.create();
+    }
+
+    /**
+     * Creates a Maven repository system for given settings. Repository systems created for the same local repository
+     * and offline mode share the underlying repository system, which is bootstrapped only once per JVM unless
+     * {@code org.jboss.shrinkwrap.resolver.maven.disableContextSharing} system property is set to {@code true}.
+     *
+     * @param settings
+     * A configuration of current session
+     * @return A Maven repository system
+     */
+    public static MavenRepositorySystem forSettings(final Settings settings) {
+        return new MavenRepositorySystem(new MavenContextPool.Key(CHECKSUM_POLICY, settings.getLocalRepository(),
+                settings.isOffline()));
+    }
+
+    /**
+     * Checks whether this repository system was created for the same configuration as given settings would produce
+     *
+     * @param settings
+     * A configuration of current session
+     * @return {@code true} if {@link #forSettings(Settings)} would return an equivalent repository system
+     */
+    public boolean isCompatibleWith(final Settings settings) {
+        return key.equals(new MavenContextPool.Key(CHECKSUM_POLICY, settings.getLocalRepository(), settings.isOffline()));
+    }
+
+    /**
+     * Closes the underlying repository system unless it is shared, shared repository systems are closed when the JVM
+     * shuts down
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!shared) {
+            context.close();
+        }
+    }
+
+    /**
+     * Returns the cache of collected dependency graphs shared by all repository systems in this JVM
+     *
+     * @return The cache
+     */
+    public static DependencyGraphCache getDependencyGraphCache() {
+        return DependencyGraphCache.getInstance();
+    }
 
+    /**
+     * Creates a pool of worker threads. Virtual threads are used if requested and supported by the JVM, that is on
+     * JDK 21 and newer, so blocked workers do not occupy platform threads. Daemon platform threads are used otherwise.
+     *
+     * @param threads Maximal number of concurrently running workers
+     * @param namePrefix Prefix of worker names, followed by a counter
+     * @param virtualThreads Whether to use virtual threads
+     * @return The pool, to be shut down by the caller
+     */
+    public static ExecutorService newWorkerPool(final int threads, final String namePrefix,
+            final boolean virtualThreads) {
+        ThreadFactory threadFactory = null;
+        if (virtualThreads) {
+            threadFactory = WorkerThreadFactories.virtual(namePrefix);
+            if (threadFactory == null && log.isLoggable(Level.FINE)) {
+                log.fine("Virtual threads are not supported by this JVM, " + namePrefix
+                        + " workers use platform threads");
+            }
+        }
+        if (threadFactory == null) {
+            threadFactory = WorkerThreadFactories.daemon(namePrefix);
+        }
+        return Executors.newFixedThreadPool(threads, threadFactory);
     }
 
     /**
@@ -107,6 +210,9 @@ public class MavenRepositorySystem {
      * Resolves artifact dependencies.
      * <p>
      * The {@link ArtifactResult} contains a reference to a file in Maven local repository.
+     * <p>
+     * Dependency graphs collected for a request are kept in {@link DependencyGraphCache}, so resolving the same request
+     * again within the same JVM skips the collection.
      *
      * @param repoSession The current Maven session
      * @param swrSession SWR Aether session abstraction
@@ -118,11 +224,117 @@ public class MavenRepositorySystem {
     public Collection<ArtifactResult> resolveDependencies(final RepositorySystemSession repoSession,
             final MavenWorkingSession swrSession, final CollectRequest request, final MavenResolutionFilter[] filters)
             throws DependencyResolutionException {
+        return resolveDependencies(repoSession, swrSession.getDependenciesForResolution(), request, filters);
+    }
+
+    /**
+     * Resolves artifact dependencies. Unlike {@link #resolveDependencies(RepositorySystemSession, MavenWorkingSession,
+     * CollectRequest, MavenResolutionFilter[])}, dependencies for resolution are passed explicitly, so no state of a
+     * working session is accessed.
+     *
+     * @param repoSession The current Maven session
+     * @param dependenciesForResolution Dependencies the resolution was requested for, passed to the filters
+     * @param request The request to be computed
+     * @param filters The filters of dependency results
+     * @return A collection of artifacts which have built dependency tree from {@code request}
+     * @throws DependencyResolutionException If a dependency could not be computed or collected
+     */
+    public Collection<ArtifactResult> resolveDependencies(final RepositorySystemSession repoSession,
+            final List<MavenDependency> dependenciesForResolution, final CollectRequest request,
+            final MavenResolutionFilter[] filters) throws DependencyResolutionException {
+        return resolveDependencies(repoSession, dependenciesForResolution, request, filters, null);
+    }
+
+    /**
+     * Resolves artifact dependencies the same way as {@link #resolveDependencies(RepositorySystemSession, List,
+     * CollectRequest, MavenResolutionFilter[])}. Dependency graph is collected separately from resolution of its
+     * artifacts, so durations of both phases are reported to given metrics.
+     *
+     * @param repoSession The current Maven session
+     * @param dependenciesForResolution Dependencies the resolution was requested for, passed to the filters
+     * @param request The request to be computed
+     * @param filters The filters of dependency results
+     * @param metrics Listener notified about durations of the phases, can be {@code null}
+     * @return A collection of artifacts which have built dependency tree from {@code request}
+     * @throws DependencyResolutionException If a dependency could not be computed or collected
+     */
+    public Collection<ArtifactResult> resolveDependencies(final RepositorySystemSession repoSession,
+            final List<MavenDependency> dependenciesForResolution, final CollectRequest request,
+            final MavenResolutionFilter[] filters, final ResolutionMetrics metrics)
+            throws DependencyResolutionException {
+        return resolveDependencyGraph(repoSession, dependenciesForResolution, request, filters, metrics)
+                .getArtifactResults();
+    }
+
+    /**
+     * Resolves artifact dependencies the same way as {@link #resolveDependencies(RepositorySystemSession, List,
+     * CollectRequest, MavenResolutionFilter[], ResolutionMetrics)}, but also provides the dependency graph the
+     * artifacts were resolved from.
+     *
+     * @param repoSession The current Maven session
+     * @param dependenciesForResolution Dependencies the resolution was requested for, passed to the filters
+     * @param request The request to be computed
+     * @param filters The filters of dependency results
+     * @param metrics Listener notified about durations of the phases, can be {@code null}
+     * @return The result with the root of the dependency graph and the resolved artifacts
+     * @throws DependencyResolutionException If a dependency could not be computed or collected
+     */
+    public DependencyResult resolveDependencyGraph(final RepositorySystemSession repoSession,
+            final List<MavenDependency> dependenciesForResolution, final CollectRequest request,
+            final MavenResolutionFilter[] filters, final ResolutionMetrics metrics)
+            throws DependencyResolutionException {
         final DependencyRequest depRequest = new DependencyRequest(request, new MavenResolutionFilterWrap(filters,
-                Collections.unmodifiableList(new ArrayList<>(swrSession.getDependenciesForResolution()))));
+                Collections.unmodifiableList(new ArrayList<>(dependenciesForResolution))));
+
+        final DependencyGraphCache cache = DependencyGraphCache.isEnabled() ? DependencyGraphCache.getInstance() : null;
+        final DependencyGraphCache.Key key = cache != null ? DependencyGraphCache.Key.of(repoSession, request) : null;
+        DependencyNode root = cache != null ? cache.get(key) : null;
+        final boolean collected = root == null;
+        if (collected) {
+            root = collectDependencies(repoSession, depRequest, metrics);
+        }
+        depRequest.setRoot(root);
+
+        final long start = System.nanoTime();
+        final DependencyResult result;
+        try {
+            result = context.repositorySystem().resolveDependencies(repoSession, depRequest);
+        } finally {
+            phaseCompleted(metrics, ResolutionPhase.ARTIFACT_RESOLUTION, start);
+        }
+        // a graph is cached only once its artifacts were resolved, as it was before collection was done separately
+        if (collected && cache != null) {
+            cache.put(key, root);
+        }
+        return result;
+    }
 
-        DependencyResult result = context.repositorySystem().resolveDependencies(repoSession, depRequest);
-        return result.getArtifactResults();
+    private DependencyNode collectDependencies(final RepositorySystemSession repoSession,
+            final DependencyRequest depRequest, final ResolutionMetrics metrics) throws DependencyResolutionException {
+        final CollectRequest request = depRequest.getCollectRequest();
+        final long start = System.nanoTime();
+        final ResolverEvent event = ResolverEvents.dependencyCollection(request);
+        boolean collected = false;
+        try {
+            final DependencyNode root = context.repositorySystem().collectDependencies(repoSession, request).getRoot();
+            collected = true;
+            return root;
+        } catch (DependencyCollectionException e) {
+            // fail the same way Maven Resolver does if it collects the graph as a part of the resolution
+            final DependencyResult result = new DependencyResult(depRequest);
+            result.setRoot(e.getResult().getRoot());
+            result.setCollectExceptions(e.getResult().getExceptions());
+            throw new DependencyResolutionException(result, e);
+        } finally {
+            phaseCompleted(metrics, ResolutionPhase.DEPENDENCY_COLLECTION, start);
+            event.complete(collected);
+        }
+    }
+
+    private static void phaseCompleted(final ResolutionMetrics metrics, final ResolutionPhase phase, final long start) {
+        if (metrics != null) {
+            metrics.phaseCompleted(phase, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -152,24 +364,20 @@ public class MavenRepositorySystem {
             throws VersionRangeResolutionException {
         return context.repositorySystem().resolveVersionRange(session, request);
     }
-
-    /**
-     * Finds a current implementation of repository system. A {@link RepositorySystem} is an entry point to dependency
-     * resolution
-     *
-     * @return Context
-     */
-    private Context getContext() throws UnsupportedOperationException {
-        eu.maveniverse.maven.mima.context.Runtime runtime = Runtimes.INSTANCE.getRuntime();
-        return runtime.create(ContextOverrides.create().checksumPolicy(ContextOverrides.ChecksumPolicy.WARN).build());
-    }
 }
 
+/**
+ * Adapts {@link MavenResolutionFilter}s to Aether. Every Aether {@link Dependency} is converted at most once per
+ * resolution and ancestors are passed to the filters as a lazy view of the parent nodes, so filtering a node neither
+ * allocates a new list nor converts its parents again. An instance is meant to be used by a single resolution.
+ */
 class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFilter {
     private static final Logger log = Logger.getLogger(MavenResolutionFilterWrap.class.getName());
 
     private final MavenResolutionFilter[] filters;
     private final List<MavenDependency> dependenciesForResolution;
+    private final boolean acceptsAll;
+    private final Map<Dependency, MavenDependency> converted = new IdentityHashMap<>();
 
     MavenResolutionFilterWrap(final MavenResolutionFilter[] filters,
             final List<MavenDependency> dependenciesForResolution) {
@@ -177,6 +385,7 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
         assert dependenciesForResolution != null : "declaredDependencies must be specified";
         this.dependenciesForResolution = dependenciesForResolution;
         this.filters = filters;
+        this.acceptsAll = acceptsAll(filters);
     }
 
     /**
@@ -192,20 +401,18 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
             return false;
         }
 
-        List<MavenDependency> ancestors = new ArrayList<>();
-        for (DependencyNode parent : parents) {
-            Dependency parentDependency = parent.getDependency();
-            if (parentDependency != null) {
-                ancestors.add(MavenConverter.fromDependency(parentDependency));
-            }
+        if (acceptsAll) {
+            return true;
         }
 
         if (log.isLoggable(Level.FINER)) {
             log.log(Level.FINER, "Filtering {0} using {1} filters", new Object[] { dependency, filters.length });
         }
 
+        final MavenDependency candidate = convert(dependency);
+        final List<MavenDependency> ancestors = new AncestorView(parents);
         for (final MavenResolutionFilter filter : filters) {
-            if (!filter.accepts(MavenConverter.fromDependency(dependency), dependenciesForResolution, ancestors)) {
+            if (!filter.accepts(candidate, dependenciesForResolution, ancestors)) {
                 if (log.isLoggable(Level.FINER)) {
                     log.log(Level.FINER, "Dependency {0} rejected by {1}", new Object[] { dependency, filter });
                 }
@@ -220,4 +427,72 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
         return true;
     }
 
+    private MavenDependency convert(final Dependency dependency) {
+        MavenDependency result = converted.get(dependency);
+        if (result == null) {
+            result = MavenConverter.fromDependency(dependency);
+            converted.put(dependency, result);
+        }
+        return result;
+    }
+
+    private static boolean acceptsAll(final MavenResolutionFilter[] filters) {
+        for (final MavenResolutionFilter filter : filters) {
+            if (filter != AcceptAllFilter.INSTANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ancestors of a node, ordered from its immediate parent, converted only when accessed. Parents without a
+     * dependency are skipped; Aether creates such node only for the root of a request without a root artifact.
+     */
+    private final class AncestorView extends AbstractList<MavenDependency> implements RandomAccess {
+        private final List<DependencyNode> parents;
+        private List<MavenDependency> fallback;
+        private int size = -1;
+
+        AncestorView(final List<DependencyNode> parents) {
+            this.parents = parents;
+        }
+
+        @Override
+        public MavenDependency get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return fallback != null ? fallback.get(index) : convert(parents.get(index).getDependency());
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                size = countAncestors();
+            }
+            return size;
+        }
+
+        private int countAncestors() {
+            final int last = parents.size() - 1;
+            int missing = 0;
+            for (int i = 0; i <= last; i++) {
+                if (parents.get(i).getDependency() == null) {
+                    missing++;
+                }
+            }
+            if (missing == 0 || (missing == 1 && parents.get(last).getDependency() == null)) {
+                return parents.size() - missing;
+            }
+            // dependency is missing in the middle of the path, indexes have to be remapped
+            fallback = new ArrayList<>(parents.size() - missing);
+            for (final DependencyNode parent : parents) {
+                if (parent.getDependency() != null) {
+                    fallback.add(convert(parent.getDependency()));
+                }
+            }
+            return fallback.size();
+        }
+    }
 }
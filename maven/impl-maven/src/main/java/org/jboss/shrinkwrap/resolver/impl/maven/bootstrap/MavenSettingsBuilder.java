@@ -19,6 +19,7 @@ package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -124,13 +125,31 @@ public class MavenSettingsBuilder {
     }
 
     /**
-     * Builds Maven settings from request.
+     * Builds Maven settings from request. Settings built from the same unmodified files are reused, see
+     * {@link SettingsCache}.
      *
      * @param request
      * The request for new settings
      * @return The built default maven {@link Settings}
      */
     public Settings buildSettings(SettingsBuildingRequest request) {
+        final List<Object> key = SettingsCache.key(request, getSecuritySettingsFile());
+        if (key != null) {
+            final Settings cached = SettingsCache.getInstance().get(key);
+            if (cached != null) {
+                log.log(Level.FINE, "Reusing Maven settings built from unmodified settings.xml files");
+                return cached;
+            }
+        }
+
+        final Settings settings = build(request);
+        if (key != null) {
+            SettingsCache.getInstance().put(key, settings);
+        }
+        return settings;
+    }
+
+    private Settings build(SettingsBuildingRequest request) {
         SettingsBuildingResult result;
         try {
             SettingsBuilder builder = new DefaultSettingsBuilderFactory().newInstance();
@@ -215,7 +234,7 @@ public class MavenSettingsBuilder {
         return request;
     }
 
-    private Settings decryptPasswords(Settings settings) {
+    private File getSecuritySettingsFile() {
 
         File securitySettings = new File(DEFAULT_SETTINGS_SECURITY_PATH);
         String altSecuritySettings = SecurityActions.getProperty(ALT_SECURITY_SETTINGS_XML_LOCATION);
@@ -224,8 +243,12 @@ public class MavenSettingsBuilder {
         if (altSecuritySettings != null && !altSecuritySettings.isEmpty()) {
             securitySettings = new File(altSecuritySettings);
         }
+        return securitySettings;
+    }
+
+    private Settings decryptPasswords(Settings settings) {
 
-        SettingsDecrypter decrypter = new MavenSettingsDecrypter(securitySettings);
+        SettingsDecrypter decrypter = new MavenSettingsDecrypter(getSecuritySettingsFile());
         SettingsDecryptionRequest request = new DefaultSettingsDecryptionRequest(settings);
         SettingsDecryptionResult result = decrypter.decrypt(request);
 
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.SettingsBuildingRequest;
+
+/**
+ * JVM wide cache of built settings. Every new working session needs settings, the cache allows to skip parsing of
+ * settings.xml files and decryption of passwords if they were not modified since the settings were built.
+ * <p>
+ * Settings are reused only if paths, modification times and sizes of global, user and security settings files are the
+ * same and so are system and user properties of the request. Requests with settings sources other than files are not
+ * cached. The cache can be disabled by {@code org.jboss.shrinkwrap.resolver.maven.disableSettingsCache} system
+ * property.
+ * <p>
+ * Settings are copied both when stored and when retrieved, so a working session can not affect settings of others.
+ */
+final class SettingsCache {
+
+    /**
+     * Disables the cache
+     */
+    static final String DISABLE_SETTINGS_CACHE_KEY = "org.jboss.shrinkwrap.resolver.maven.disableSettingsCache";
+
+    private static final int MAX_SETTINGS = 16;
+
+    private static final SettingsCache INSTANCE = new SettingsCache();
+
+    private final Map<List<Object>, Settings> settings = new LinkedHashMap<List<Object>, Settings>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<Object>, Settings> eldest) {
+            return size() > MAX_SETTINGS;
+        }
+    };
+
+    private SettingsCache() {
+    }
+
+    /**
+     * Returns the cache shared by all working sessions
+     *
+     * @return The shared cache
+     */
+    static SettingsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a key identifying settings built from given request
+     *
+     * @param request The request
+     * @param securitySettings Security settings used to decrypt passwords
+     * @return The key or {@code null} if the settings can not be cached
+     */
+    static List<Object> key(final SettingsBuildingRequest request, final File securitySettings) {
+        if (Boolean.getBoolean(DISABLE_SETTINGS_CACHE_KEY) || request.getGlobalSettingsSource() != null
+                || request.getUserSettingsSource() != null) {
+            return null;
+        }
+        final List<Object> key = new ArrayList<>(11);
+        addFile(key, request.getGlobalSettingsFile());
+        addFile(key, request.getUserSettingsFile());
+        addFile(key, securitySettings);
+        key.add(toMap(request.getSystemProperties()));
+        key.add(toMap(request.getUserProperties()));
+        return key;
+    }
+
+    /**
+     * Returns a copy of cached settings
+     *
+     * @param key The key
+     * @return Copy of the settings or {@code null} if there are none
+     */
+    Settings get(final List<Object> key) {
+        final Settings cached;
+        synchronized (settings) {
+            cached = settings.get(key);
+        }
+        return cached == null ? null : cached.clone();
+    }
+
+    /**
+     * Stores a copy of settings
+     *
+     * @param key The key
+     * @param built The settings
+     */
+    void put(final List<Object> key, final Settings built) {
+        final Settings copy = built.clone();
+        synchronized (settings) {
+            settings.put(key, copy);
+        }
+    }
+
+    /**
+     * Removes all settings from the cache
+     */
+    void clear() {
+        synchronized (settings) {
+            settings.clear();
+        }
+    }
+
+    private static void addFile(final List<Object> key, final File file) {
+        if (file == null) {
+            key.add(null);
+            key.add(0L);
+            key.add(0L);
+        } else {
+            key.add(file.getAbsolutePath());
+            key.add(file.lastModified());
+            key.add(file.length());
+        }
+    }
+
+    private static Map<String, String> toMap(final Properties properties) {
+        final Map<String, String> map = new HashMap<>();
+        if (properties != null) {
+            for (String name : properties.stringPropertyNames()) {
+                map.put(name, properties.getProperty(name));
+            }
+        }
+        return map;
+    }
+}
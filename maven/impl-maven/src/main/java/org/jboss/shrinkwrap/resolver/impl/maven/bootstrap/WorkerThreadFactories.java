@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates factories of worker threads. Virtual threads are created reflectively, because ShrinkWrap Resolver still runs
+ * on JVMs without them.
+ */
+final class WorkerThreadFactories {
+
+    private static final Logger log = Logger.getLogger(WorkerThreadFactories.class.getName());
+
+    // Thread.ofVirtual() and Thread.Builder methods, null if virtual threads are not supported; on JDK 19 and 20 the
+    // methods exist as a preview API, but fail unless preview features are enabled, so a factory is created up front
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            factory.invoke(ofVirtual.invoke(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.log(Level.FINEST, "Virtual threads are not supported by this JVM", e);
+            ofVirtual = null;
+            name = null;
+            factory = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private WorkerThreadFactories() {
+        throw new UnsupportedOperationException("No instances should be created; stateless class");
+    }
+
+    /**
+     * Checks whether this JVM supports virtual threads
+     *
+     * @return {@code true} on JDK 21 and newer, or on JDK 19 and 20 with preview features enabled
+     */
+    static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads
+     *
+     * @param namePrefix Prefix of thread names, followed by a counter
+     * @return The factory or {@code null} if this JVM does not support virtual threads
+     */
+    static ThreadFactory virtual(final String namePrefix) {
+        if (!isVirtualThreadsSupported()) {
+            return null;
+        }
+        try {
+            final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.log(Level.WARNING, "Unable to create virtual threads, platform threads are used instead", e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a factory of platform daemon threads
+     *
+     * @param namePrefix Prefix of thread names, followed by a counter
+     * @return The factory
+     */
+    static ThreadFactory daemon(final String namePrefix) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -202,6 +202,11 @@ public class MavenConverter {
                     new Object[] { dependency.getScope(), coordinate.toCanonicalForm() });
         }
 
+        if (!undeclaredScope && MavenDependencies.isPooled()) {
+            // the factory shares equal instances, otherwise it only adds a reflective call
+            return MavenDependencies.createDependency(coordinate, scope, dependency.isOptional(),
+                    exclusions.toArray(TYPESAFE_EXCLUSIONS_ARRAY));
+        }
         final MavenDependencySPI result = new MavenDependencyImpl(coordinate, scope,
                 dependency.isOptional(), undeclaredScope, exclusions.toArray(TYPESAFE_EXCLUSIONS_ARRAY));
         return result;
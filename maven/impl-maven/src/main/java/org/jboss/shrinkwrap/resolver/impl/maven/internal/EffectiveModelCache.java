@@ -0,0 +1,295 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.Activation;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Profile;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingResult;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+
+/**
+ * JVM wide cache of effective models of POM files. Tests commonly load the same pom.xml file over and over, the cache
+ * allows to skip building of its model, including reading and interpolation of its whole parent hierarchy.
+ * <p>
+ * A model is reused only if the POM file and all POM files of its parents found on the file system were not modified
+ * since it was built. Explicitly activated and deactivated profiles, system and user properties and profiles defined
+ * by settings are part of the key. Models are not cached at all if the POM, any of its parents or settings define a
+ * profile activated by a file, a property, a JDK or an OS, as the activation might change without the key changing.
+ * <p>
+ * The cache is a LRU cache bounded by number of models, set by
+ * {@code org.jboss.shrinkwrap.resolver.maven.effectiveModelCacheSize} system property. It can be disabled, together
+ * with {@link SharedModelCache}, by {@code org.jboss.shrinkwrap.resolver.maven.disableModelCache} system property.
+ * <p>
+ * Models are copied both when stored and when retrieved, so callers are free to modify them.
+ */
+public final class EffectiveModelCache {
+    private static final Logger log = Logger.getLogger(EffectiveModelCache.class.getName());
+
+    /**
+     * Maximal number of models held by the cache
+     */
+    static final String EFFECTIVE_MODEL_CACHE_SIZE_KEY = "org.jboss.shrinkwrap.resolver.maven.effectiveModelCacheSize";
+
+    private static final int DEFAULT_MAX_MODELS = 256;
+
+    private static final EffectiveModelCache INSTANCE = new EffectiveModelCache(Integer.getInteger(
+            EFFECTIVE_MODEL_CACHE_SIZE_KEY, DEFAULT_MAX_MODELS));
+
+    private final Map<Key, CachedModel> models = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxModels;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    EffectiveModelCache(final int maxModels) {
+        this.maxModels = maxModels;
+    }
+
+    /**
+     * Returns the cache shared by all working sessions
+     *
+     * @return The shared cache
+     */
+    public static EffectiveModelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a copy of the effective model built for given key, unless any of the POM files it was built from has
+     * changed since then
+     *
+     * @param key The key
+     * @return The effective model or {@code null} if there is no such model
+     */
+    public Model get(final Key key) {
+        final CachedModel model;
+        synchronized (this) {
+            model = models.get(key);
+        }
+        if (model == null || !model.isUpToDate()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        if (log.isLoggable(Level.FINER)) {
+            log.log(Level.FINER, "Reusing effective model of {0}", key.pomFile);
+        }
+        return model.model.clone();
+    }
+
+    /**
+     * Stores a copy of the effective model of given result, unless it depends on profiles with activation conditions
+     *
+     * @param key The key
+     * @param result The result of model building
+     */
+    public void put(final Key key, final ModelBuildingResult result) {
+        if (key.conditionalSettingsProfiles) {
+            return;
+        }
+        final List<File> files = new ArrayList<>(result.getModelIds().size());
+        for (String modelId : result.getModelIds()) {
+            final Model rawModel = result.getRawModel(modelId);
+            // the super POM, identified by an empty id, activates its profile by a property which is part of the key
+            if (rawModel != null && !modelId.isEmpty() && hasActivationConditions(rawModel.getProfiles())) {
+                if (log.isLoggable(Level.FINER)) {
+                    log.log(Level.FINER, "Not caching effective model of {0}, profiles of {1} have activation "
+                            + "conditions", new Object[] { key.pomFile, modelId });
+                }
+                return;
+            }
+            // parents resolved from repositories and the super POM have no file to be watched
+            if (rawModel != null && rawModel.getPomFile() != null) {
+                files.add(rawModel.getPomFile());
+            }
+        }
+        final CachedModel model = new CachedModel(result.getEffectiveModel().clone(), files);
+        synchronized (this) {
+            models.put(key, model);
+            while (models.size() > maxModels) {
+                models.remove(models.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Returns number of models served from the cache
+     *
+     * @return Number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns number of models that were not found in the cache
+     *
+     * @return Number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns number of models currently held by the cache
+     *
+     * @return Number of cached models
+     */
+    public synchronized int getModelCount() {
+        return models.size();
+    }
+
+    /**
+     * Removes all models from the cache and resets its statistics
+     */
+    public void clear() {
+        synchronized (this) {
+            models.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    // activeByDefault alone is decided by explicitly activated profiles, which are part of the key
+    private static boolean hasActivationConditions(final List<Profile> profiles) {
+        for (Profile profile : profiles) {
+            final Activation activation = profile.getActivation();
+            if (activation != null && (activation.getFile() != null || activation.getProperty() != null
+                    || activation.getJdk() != null || activation.getOs() != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class CachedModel {
+        private final Model model;
+        private final File[] files;
+        private final long[] lastModified;
+
+        private CachedModel(final Model model, final List<File> files) {
+            this.model = model;
+            this.files = files.toArray(new File[0]);
+            this.lastModified = new long[this.files.length];
+            for (int i = 0; i < this.files.length; i++) {
+                lastModified[i] = this.files[i].lastModified();
+            }
+        }
+
+        private boolean isUpToDate() {
+            for (int i = 0; i < files.length; i++) {
+                if (files[i].lastModified() != lastModified[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Everything an effective model depends on, except for the content of POM files
+     */
+    public static final class Key {
+        private final File pomFile;
+        private final List<String> activeProfileIds;
+        private final List<String> inactiveProfileIds;
+        private final Map<String, String> systemProperties;
+        private final Map<String, String> userProperties;
+        private final String settingsProfiles;
+        private final boolean conditionalSettingsProfiles;
+        private final int hashCode;
+
+        private Key(final File pomFile, final List<String> activeProfileIds, final List<String> inactiveProfileIds,
+            final Map<String, String> systemProperties, final Map<String, String> userProperties,
+            final String settingsProfiles, final boolean conditionalSettingsProfiles) {
+            this.pomFile = pomFile;
+            this.activeProfileIds = activeProfileIds;
+            this.inactiveProfileIds = inactiveProfileIds;
+            this.systemProperties = systemProperties;
+            this.userProperties = userProperties;
+            this.settingsProfiles = settingsProfiles;
+            this.conditionalSettingsProfiles = conditionalSettingsProfiles;
+            this.hashCode = Objects.hash(pomFile, activeProfileIds, inactiveProfileIds, systemProperties,
+                userProperties, settingsProfiles);
+        }
+
+        /**
+         * Creates a key for given request
+         *
+         * @param request The model building request
+         * @return The key
+         */
+        public static Key of(final ModelBuildingRequest request) {
+            return new Key(request.getPomFile().getAbsoluteFile(), new ArrayList<>(request.getActiveProfileIds()),
+                new ArrayList<>(request.getInactiveProfileIds()), SharedModelCache.toMap(request.getSystemProperties()),
+                SharedModelCache.toMap(request.getUserProperties()), serialize(request.getProfiles()),
+                hasActivationConditions(request.getProfiles()));
+        }
+
+        // profiles have no equality, their serialized form covers properties, repositories and activations
+        private static String serialize(final List<Profile> profiles) {
+            if (profiles.isEmpty()) {
+                return "";
+            }
+            final Model model = new Model();
+            model.setProfiles(profiles);
+            final StringWriter writer = new StringWriter();
+            try {
+                new MavenXpp3Writer().write(writer, model);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to serialize profiles defined by settings", e);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && pomFile.equals(other.pomFile)
+                && activeProfileIds.equals(other.activeProfileIds)
+                && inactiveProfileIds.equals(other.inactiveProfileIds)
+                && systemProperties.equals(other.systemProperties)
+                && userProperties.equals(other.userProperties)
+                && settingsProfiles.equals(other.settingsProfiles);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.maven.model.building.ModelCache;
+
+/**
+ * JVM wide {@link ModelCache} of raw parent POMs and imported dependency management which were read from repositories
+ * during model building. Maven keeps such a cache for a single build, ShrinkWrap Resolver shares it by all POM files
+ * loaded in the JVM, so a parent hierarchy or a BOM shared by many projects is read and interpolated only once.
+ * <p>
+ * Snapshot versions are not cached as their content might change. Imported dependency management is interpolated with
+ * system and user properties of the request, so it is cached separately for each set of these properties.
+ * <p>
+ * The cache is a LRU cache bounded by number of models, set by
+ * {@code org.jboss.shrinkwrap.resolver.maven.sharedModelCacheSize} system property. It can be disabled, together with
+ * {@link EffectiveModelCache}, by {@code org.jboss.shrinkwrap.resolver.maven.disableModelCache} system property.
+ */
+public final class SharedModelCache {
+
+    /**
+     * Disables caching of models
+     */
+    static final String DISABLE_MODEL_CACHE_KEY = "org.jboss.shrinkwrap.resolver.maven.disableModelCache";
+
+    /**
+     * Maximal number of models held by the cache
+     */
+    static final String SHARED_MODEL_CACHE_SIZE_KEY = "org.jboss.shrinkwrap.resolver.maven.sharedModelCacheSize";
+
+    private static final int DEFAULT_MAX_MODELS = 1024;
+
+    // tag Maven uses for raw models, which do not depend on properties
+    private static final String RAW_TAG = "raw";
+
+    private static final SharedModelCache INSTANCE = new SharedModelCache(Integer.getInteger(
+            SHARED_MODEL_CACHE_SIZE_KEY, DEFAULT_MAX_MODELS));
+
+    private final Map<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxModels;
+
+    SharedModelCache(final int maxModels) {
+        this.maxModels = maxModels;
+    }
+
+    /**
+     * Returns the cache shared by all working sessions
+     *
+     * @return The shared cache
+     */
+    public static SharedModelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether models should be cached
+     *
+     * @return {@code true} unless caching was disabled
+     */
+    public static boolean isEnabled() {
+        return !Boolean.getBoolean(DISABLE_MODEL_CACHE_KEY);
+    }
+
+    /**
+     * Returns a view of the cache to be used by a model building request with given system and user properties
+     *
+     * @param systemProperties System properties of the request, can be {@code null}
+     * @param userProperties User properties of the request, can be {@code null}
+     * @return The cache
+     */
+    public ModelCache forProperties(final Properties systemProperties, final Properties userProperties) {
+        return new View(toMap(systemProperties), toMap(userProperties));
+    }
+
+    /**
+     * Returns number of cached entries
+     *
+     * @return Number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries from the cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized void put(final Key key, final Object data) {
+        entries.put(key, data);
+        while (entries.size() > maxModels) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    private synchronized Object get(final Key key) {
+        return entries.get(key);
+    }
+
+    static Map<String, String> toMap(final Properties properties) {
+        if (properties == null || properties.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> map = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
+        }
+        return map;
+    }
+
+    private final class View implements ModelCache {
+        private final Map<String, String> systemProperties;
+        private final Map<String, String> userProperties;
+
+        private View(final Map<String, String> systemProperties, final Map<String, String> userProperties) {
+            this.systemProperties = systemProperties;
+            this.userProperties = userProperties;
+        }
+
+        @Override
+        public void put(final String groupId, final String artifactId, final String version, final String tag,
+            final Object data) {
+            if (version != null && !version.endsWith("SNAPSHOT")) {
+                SharedModelCache.this.put(key(groupId, artifactId, version, tag), data);
+            }
+        }
+
+        @Override
+        public Object get(final String groupId, final String artifactId, final String version, final String tag) {
+            return SharedModelCache.this.get(key(groupId, artifactId, version, tag));
+        }
+
+        private Key key(final String groupId, final String artifactId, final String version, final String tag) {
+            final boolean raw = RAW_TAG.equals(tag);
+            return new Key(groupId, artifactId, version, tag,
+                raw ? Collections.<String, String>emptyMap() : systemProperties,
+                raw ? Collections.<String, String>emptyMap() : userProperties);
+        }
+    }
+
+    private static final class Key {
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String tag;
+        private final Map<String, String> systemProperties;
+        private final Map<String, String> userProperties;
+        private final int hashCode;
+
+        private Key(final String groupId, final String artifactId, final String version, final String tag,
+            final Map<String, String> systemProperties, final Map<String, String> userProperties) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.tag = tag;
+            this.systemProperties = systemProperties;
+            this.userProperties = userProperties;
+            this.hashCode = Objects.hash(groupId, artifactId, version, tag, systemProperties, userProperties);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && Objects.equals(groupId, other.groupId)
+                && Objects.equals(artifactId, other.artifactId) && Objects.equals(version, other.version)
+                && Objects.equals(tag, other.tag) && systemProperties.equals(other.systemProperties)
+                && userProperties.equals(other.userProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
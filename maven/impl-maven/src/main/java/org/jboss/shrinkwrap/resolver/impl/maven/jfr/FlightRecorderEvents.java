@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import java.io.File;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.transfer.TransferResource;
+
+/**
+ * Creates and begins JDK Flight Recorder events. This class is loaded only if JDK Flight Recorder is available.
+ */
+final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+        throw new UnsupportedOperationException("No instances should be created; stateless class");
+    }
+
+    static ResolverEvent modelBuilding(final File pomFile) {
+        final ModelBuildingEvent event = new ModelBuildingEvent();
+        if (!event.isEnabled()) {
+            return ResolverEvent.DISABLED;
+        }
+        event.pomFile = String.valueOf(pomFile);
+        event.begin();
+        return event;
+    }
+
+    static ResolverEvent dependencyCollection(final CollectRequest request) {
+        final DependencyCollectionEvent event = new DependencyCollectionEvent();
+        if (!event.isEnabled()) {
+            return ResolverEvent.DISABLED;
+        }
+        // requests created by ShrinkWrap Resolver have no root artifact, the graph is identified by its first dependency
+        if (request.getRoot() != null) {
+            event.root = String.valueOf(request.getRoot().getArtifact());
+        } else if (!request.getDependencies().isEmpty()) {
+            event.root = String.valueOf(request.getDependencies().get(0).getArtifact());
+        }
+        event.dependencies = request.getDependencies().size();
+        event.begin();
+        return event;
+    }
+
+    static ResolverEvent artifactTransfer(final TransferResource resource, final boolean upload) {
+        final ArtifactTransferEvent event = new ArtifactTransferEvent();
+        if (!event.isEnabled()) {
+            return ResolverEvent.DISABLED;
+        }
+        event.repository = resource.getRepositoryUrl();
+        event.resource = resource.getResourceName();
+        event.upload = upload;
+        event.begin();
+        return event;
+    }
+
+    static ResolverEvent workspaceLookup(final Artifact artifact) {
+        final WorkspaceLookupEvent event = new WorkspaceLookupEvent();
+        if (!event.isEnabled()) {
+            return ResolverEvent.DISABLED;
+        }
+        event.artifact = String.valueOf(artifact);
+        event.begin();
+        return event;
+    }
+
+    static ResolverEvent archivePackaging(final File archive, final int directories) {
+        final ArchivePackagingEvent event = new ArchivePackagingEvent();
+        if (!event.isEnabled()) {
+            return ResolverEvent.DISABLED;
+        }
+        event.archive = String.valueOf(archive);
+        event.directories = directories;
+        event.begin();
+        return event;
+    }
+}
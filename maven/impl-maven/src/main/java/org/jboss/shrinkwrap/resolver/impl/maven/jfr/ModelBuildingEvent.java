@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Building of an effective model of a POM file
+ */
+@Name("org.jboss.shrinkwrap.resolver.ModelBuilding")
+@Label("Model Building")
+@Category("ShrinkWrap Resolver")
+@Description("Building of an effective model of a POM file")
+class ModelBuildingEvent extends Event implements ResolverEvent {
+
+    @Label("POM File")
+    String pomFile;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Override
+    public void complete(final boolean successful) {
+        this.successful = successful;
+        commit();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+/**
+ * An operation of the resolver which is recorded by JDK Flight Recorder. The operation starts when the event is obtained
+ * from {@link ResolverEvents} and ends by calling {@link #complete(boolean)}.
+ */
+public interface ResolverEvent {
+
+    /**
+     * An event which records nothing, used when JDK Flight Recorder is not available or the event is not enabled
+     */
+    ResolverEvent DISABLED = new ResolverEvent() {
+        @Override
+        public void complete(boolean successful) {
+        }
+    };
+
+    /**
+     * Sets number of bytes processed by the operation, ignored by events which do not record it
+     *
+     * @param bytes Number of bytes
+     */
+    default void setBytes(long bytes) {
+    }
+
+    /**
+     * Ends the operation and commits the event
+     *
+     * @param successful Whether the operation succeeded, for lookups whether the artifact was found
+     */
+    void complete(boolean successful);
+}
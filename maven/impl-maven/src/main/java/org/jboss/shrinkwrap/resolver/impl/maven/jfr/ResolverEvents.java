@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import java.io.File;
+import java.util.logging.Logger;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.transfer.TransferResource;
+
+/**
+ * Starts JDK Flight Recorder events of resolver operations. Events are recorded in category {@code ShrinkWrap Resolver}
+ * whenever a recording is running, for instance one started by {@code -XX:StartFlightRecording}, so stalls of the
+ * resolver can be correlated with garbage collection and I/O events of the same recording.
+ * <p>
+ * If the runtime does not provide JDK Flight Recorder or an event is disabled, {@link ResolverEvent#DISABLED} is returned
+ * and details of the operation are not even converted to event fields.
+ */
+public final class ResolverEvents {
+    private static final Logger log = Logger.getLogger(ResolverEvents.class.getName());
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private ResolverEvents() {
+        throw new UnsupportedOperationException("No instances should be created; stateless class");
+    }
+
+    /**
+     * Starts building of an effective POM model
+     *
+     * @param pomFile The POM file
+     * @return The started event
+     */
+    public static ResolverEvent modelBuilding(final File pomFile) {
+        return AVAILABLE ? FlightRecorderEvents.modelBuilding(pomFile) : ResolverEvent.DISABLED;
+    }
+
+    /**
+     * Starts collection of a dependency graph
+     *
+     * @param request The request the graph is collected for
+     * @return The started event
+     */
+    public static ResolverEvent dependencyCollection(final CollectRequest request) {
+        return AVAILABLE ? FlightRecorderEvents.dependencyCollection(request) : ResolverEvent.DISABLED;
+    }
+
+    /**
+     * Starts a transfer of a file from or to a repository
+     *
+     * @param resource The transferred file
+     * @param upload Whether the file is uploaded
+     * @return The started event
+     */
+    public static ResolverEvent artifactTransfer(final TransferResource resource, final boolean upload) {
+        return AVAILABLE ? FlightRecorderEvents.artifactTransfer(resource, upload) : ResolverEvent.DISABLED;
+    }
+
+    /**
+     * Starts a lookup of an artifact on the classpath
+     *
+     * @param artifact The artifact
+     * @return The started event
+     */
+    public static ResolverEvent workspaceLookup(final Artifact artifact) {
+        return AVAILABLE ? FlightRecorderEvents.workspaceLookup(artifact) : ResolverEvent.DISABLED;
+    }
+
+    /**
+     * Starts packaging of directories into an archive
+     *
+     * @param archive The created archive
+     * @param directories Number of packaged directories
+     * @return The started event
+     */
+    public static ResolverEvent archivePackaging(final File archive, final int directories) {
+        return AVAILABLE ? FlightRecorderEvents.archivePackaging(archive, directories) : ResolverEvent.DISABLED;
+    }
+
+    // JDK Flight Recorder API is not present in JDK 8 builds older than 8u262
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ResolverEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.fine("JDK Flight Recorder is not available, resolver events will not be recorded");
+            return false;
+        }
+    }
+}
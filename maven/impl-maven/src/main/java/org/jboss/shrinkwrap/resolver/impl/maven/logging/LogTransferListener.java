@@ -30,6 +30,8 @@ import java.util.logging.Logger;
 import org.eclipse.aether.transfer.AbstractTransferListener;
 import org.eclipse.aether.transfer.TransferEvent;
 import org.eclipse.aether.transfer.TransferResource;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvent;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.ResolverEvents;
 
 /**
  * A listener which reports Maven transfer events to a logger.
@@ -46,6 +48,9 @@ public class LogTransferListener extends AbstractTransferListener {
     // a map of transferred data sizes for the last notification
     private final Map<TransferResource, Long> downloads = new ConcurrentHashMap<>();
 
+    // flight recorder events of running transfers, only those which are enabled
+    private final Map<TransferResource, ResolverEvent> events = new ConcurrentHashMap<>();
+
     // a minimal amount of data transferred for an artifact required to inform
     // the user
     private static final long TRANSFER_THRESHOLD = 1024 * 50;
@@ -62,6 +67,11 @@ public class LogTransferListener extends AbstractTransferListener {
         String string = (event.getRequestType() == TransferEvent.RequestType.PUT ? "Uploading" : "Downloading") + ":" +
                 resource.getRepositoryUrl() + resource.getResourceName();
         downloads.put(resource, 0L);
+        final ResolverEvent transferEvent = ResolverEvents.artifactTransfer(resource,
+                event.getRequestType() == TransferEvent.RequestType.PUT);
+        if (transferEvent != ResolverEvent.DISABLED) {
+            events.put(resource, transferEvent);
+        }
         log.fine(string);
     }
 
@@ -96,6 +106,7 @@ public class LogTransferListener extends AbstractTransferListener {
         TransferResource resource = event.getResource();
 
         downloads.remove(resource);
+        completeEvent(resource, event.getTransferredBytes(), true);
 
         long contentLength = event.getTransferredBytes();
         if (contentLength >= 0) {
@@ -122,6 +133,7 @@ public class LogTransferListener extends AbstractTransferListener {
         TransferResource resource = event.getResource();
 
         downloads.remove(resource);
+        completeEvent(resource, event.getTransferredBytes(), false);
 
         StringBuilder sb = new StringBuilder().append("Failed")
             .append(event.getRequestType() == TransferEvent.RequestType.PUT ? " uploading " : " downloading ")
@@ -162,6 +174,15 @@ public class LogTransferListener extends AbstractTransferListener {
 
     }
 
+    // a corrupted transfer is followed by either a failure or a success, depending on the checksum policy
+    private void completeEvent(TransferResource resource, long transferred, boolean successful) {
+        final ResolverEvent transferEvent = events.remove(resource);
+        if (transferEvent != null) {
+            transferEvent.setBytes(transferred);
+            transferEvent.complete(successful);
+        }
+    }
+
     // converts into status message
     private String getStatus(long complete, long total) {
         if (total >= 1024) {
@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
+
+/**
+ * Resolves multiple independent sets of dependencies in parallel. Each set is resolved by
+ * {@link MavenWorkingSession#resolveDependencies(List, MavenResolutionStrategy)}, so all of them share the same session
+ * configuration while dependencies for resolution of the session are left untouched.
+ * <p>
+ * Number of concurrent resolutions is limited by {@code org.jboss.shrinkwrap.resolver.maven.batchResolutionThreads}
+ * system property and defaults to the number of available processors. Resolutions run on virtual threads if the session
+ * asks for them, see {@link MavenWorkingSession#isVirtualThreads()}.
+ *
+ * @param <K> Type of keys identifying the sets
+ */
+public class ResolveDependencySetsTask<K> implements MavenWorkingSessionTask<Map<K, Collection<MavenResolvedArtifact>>> {
+
+    /**
+     * Maximal number of concurrent resolutions
+     */
+    public static final String BATCH_RESOLUTION_THREADS_KEY = "org.jboss.shrinkwrap.resolver.maven.batchResolutionThreads";
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final Map<K, ? extends Collection<String>> canonicalForms;
+    private final MavenResolutionStrategy strategy;
+
+    /**
+     * Creates a task resolving given sets of dependencies
+     *
+     * @param canonicalForms Sets of dependencies in their canonical form, identified by keys
+     * @param strategy Strategy used to resolve every set
+     */
+    public ResolveDependencySetsTask(final Map<K, ? extends Collection<String>> canonicalForms,
+            final MavenResolutionStrategy strategy) {
+        this.canonicalForms = canonicalForms;
+        this.strategy = strategy;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.jboss.shrinkwrap.resolver.impl.maven.task.MavenWorkingSessionTask#execute(org.jboss.shrinkwrap.resolver.impl.maven
+     * .MavenWorkingSession)
+     */
+    @Override
+    public Map<K, Collection<MavenResolvedArtifact>> execute(final MavenWorkingSession session) {
+
+        // versions are inferred upfront, so invalid input is reported before any resolution starts
+        final Map<K, List<MavenDependency>> dependencySets = new LinkedHashMap<>(canonicalForms.size());
+        for (final Map.Entry<K, ? extends Collection<String>> entry : canonicalForms.entrySet()) {
+            Validate.notEmpty(entry.getValue(), "No dependencies were set for resolution of " + entry.getKey());
+            final List<MavenDependency> dependencies = new ArrayList<>(entry.getValue().size());
+            for (final String canonicalForm : entry.getValue()) {
+                dependencies.add(toDependency(session, canonicalForm));
+            }
+            dependencySets.put(entry.getKey(), dependencies);
+        }
+
+        final Map<K, Collection<MavenResolvedArtifact>> results = new LinkedHashMap<>(dependencySets.size());
+        if (dependencySets.isEmpty()) {
+            return results;
+        }
+
+        final int threads = Math.min(dependencySets.size(), Integer.getInteger(BATCH_RESOLUTION_THREADS_KEY,
+                Runtime.getRuntime().availableProcessors()));
+        final ExecutorService executor = MavenRepositorySystem.newWorkerPool(Math.max(1, threads),
+                "shrinkwrap-resolver-batch-" + POOL_COUNTER.incrementAndGet() + "-", session.isVirtualThreads());
+        try {
+            final Map<K, Future<Collection<MavenResolvedArtifact>>> futures = new LinkedHashMap<>(dependencySets.size());
+            for (final Map.Entry<K, List<MavenDependency>> entry : dependencySets.entrySet()) {
+                futures.put(entry.getKey(), executor.submit(() -> session.resolveDependencies(entry.getValue(),
+                        strategy)));
+            }
+            for (final Map.Entry<K, Future<Collection<MavenResolvedArtifact>>> future : futures.entrySet()) {
+                results.put(future.getKey(), await(future.getKey(), future.getValue()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static MavenDependency toDependency(final MavenWorkingSession session, final String canonicalForm) {
+        if (Validate.isNullOrEmpty(canonicalForm)) {
+            throw new IllegalArgumentException("null dependency not permitted");
+        }
+        final MavenDependency declared = MavenDependencies.createDependency(canonicalForm, null, false);
+        final String version = new ResolveVersionFromMetadataTask(declared).execute(session);
+        final MavenCoordinate coordinate = MavenCoordinates.createCoordinate(declared.getGroupId(),
+                declared.getArtifactId(), version, declared.getPackaging(), declared.getClassifier());
+        return MavenDependencies.createDependency(coordinate, declared.getScope(), declared.isOptional());
+    }
+
+    private static <K> Collection<MavenResolvedArtifact> await(final K key,
+            final Future<Collection<MavenResolvedArtifact>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResolutionException("Interrupted while resolving dependencies of " + key, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ResolutionException("Unable to resolve dependencies of " + key, cause);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.jboss.shrinkwrap.resolver.impl.maven.task;
 
 import java.text.MessageFormat;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +29,7 @@ import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencyExclusion;
 import org.jboss.shrinkwrap.resolver.impl.maven.coordinate.MavenDependencyImpl;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.IndexedDependencySet;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 
 /**
@@ -60,23 +62,13 @@ public class ResolveVersionFromMetadataTask implements MavenWorkingSessionTask<S
         // is not able to infer anything, it was not configured
         if (Validate.isNullOrEmptyOrQuestionMark(resolvedVersion)) {
 
-            // version is ignored here, so we have to iterate to get the dependency we are looking for
-            if (session.getDependencyManagement().contains(dependency)) {
-
-                // get the dependency from internal dependencyManagement
-                MavenDependency resolved = null;
-                for (MavenDependency mavenDependency : session.getDependencyManagement()) {
-                    resolved = mavenDependency;
-                    if (resolved.equals(dependency)) {
-                        break;
-                    }
-                }
-                // we have resolved a version from dependency management
-                if (resolved != null) {
-                    resolvedVersion = resolved.getVersion();
-                    log.log(Level.FINE, "Resolved version {0} from the POM file for the artifact {1}", new Object[] {
-                        resolved.getVersion(), dependency.toCanonicalForm() });
-                }
+            // get the dependency from internal dependencyManagement
+            MavenDependency resolved = findManagedDependency(session, dependency);
+            // we have resolved a version from dependency management
+            if (resolved != null) {
+                resolvedVersion = resolved.getVersion();
+                log.log(Level.FINE, "Resolved version {0} from the POM file for the artifact {1}", new Object[] {
+                    resolved.getVersion(), dependency.toCanonicalForm() });
             }
 
         }
@@ -86,23 +78,13 @@ public class ResolveVersionFromMetadataTask implements MavenWorkingSessionTask<S
             MavenCoordinate coordinate = MavenCoordinates.createCoordinate(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), PackagingType.TEST_JAR, PackagingType.TEST_JAR.getClassifier());
             MavenDependency newDependency = new MavenDependencyImpl(coordinate, dependency.getScope(), dependency.isOptional(), dependency.getExclusions().toArray(new MavenDependencyExclusion[0]));
 
-            // version is ignored here, so we have to iterate to get the dependency we are looking for
-            if (session.getDependencyManagement().contains(newDependency)) {
-
-                // get the dependency from internal dependencyManagement
-                MavenDependency resolved = null;
-                for (MavenDependency mavenDependency : session.getDependencyManagement()) {
-                    resolved = mavenDependency;
-                    if (resolved.equals(newDependency)) {
-                        break;
-                    }
-                }
-                // we have resolved a version from dependency management
-                if (resolved != null) {
-                    resolvedVersion = resolved.getVersion();
-                    log.log(Level.FINE, "Resolved version {0} from the POM file for the artifact {1} via {2}", new Object[] {
-                        resolved.getVersion(), dependency.toCanonicalForm() , newDependency.toCanonicalForm()});
-                }
+            // get the dependency from internal dependencyManagement
+            MavenDependency resolved = findManagedDependency(session, newDependency);
+            // we have resolved a version from dependency management
+            if (resolved != null) {
+                resolvedVersion = resolved.getVersion();
+                log.log(Level.FINE, "Resolved version {0} from the POM file for the artifact {1} via {2}", new Object[] {
+                    resolved.getVersion(), dependency.toCanonicalForm() , newDependency.toCanonicalForm()});
             }
         }
 
@@ -129,4 +111,18 @@ public class ResolveVersionFromMetadataTask implements MavenWorkingSessionTask<S
         return resolvedVersion;
     }
 
+    // version is ignored by equality of dependencies, so an indexed dependency management does not need to be iterated
+    private static MavenDependency findManagedDependency(MavenWorkingSession session, MavenDependency dependency) {
+        final Set<MavenDependency> dependencyManagement = session.getDependencyManagement();
+        if (dependencyManagement instanceof IndexedDependencySet) {
+            return ((IndexedDependencySet) dependencyManagement).find(dependency);
+        }
+        for (MavenDependency mavenDependency : dependencyManagement) {
+            if (mavenDependency.equals(dependency)) {
+                return mavenDependency;
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencyExclusion;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveExclusionPolicy;
+
+/**
+ * Computes a stable SHA-256 based fingerprint of resolution inputs, suitable as a cache key
+ */
+public final class Fingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest digest;
+
+    /**
+     * Creates an empty fingerprint
+     */
+    public Fingerprint() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM", e);
+        }
+    }
+
+    /**
+     * Adds a named value
+     *
+     * @param name Name of the value
+     * @param value The value, might be {@code null}
+     * @return Modified instance
+     */
+    public Fingerprint add(final String name, final Object value) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '=');
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        return this;
+    }
+
+    /**
+     * Adds a named dependency, including its scope, optionality and exclusions
+     *
+     * @param name Name of the value
+     * @param dependency The dependency
+     * @return Modified instance
+     */
+    public Fingerprint add(final String name, final MavenDependency dependency) {
+        final List<String> exclusions = new ArrayList<>(dependency.getExclusions().size());
+        for (MavenDependencyExclusion exclusion : dependency.getExclusions()) {
+            exclusions.add(exclusion.toCanonicalForm());
+        }
+        Collections.sort(exclusions);
+        return add(name, dependency.toCanonicalForm() + " " + dependency.getScope() + " " + dependency.isOptional() + " "
+                + exclusions);
+    }
+
+    /**
+     * Returns the fingerprint as a hex encoded string. The instance must not be used afterwards.
+     *
+     * @return The fingerprint
+     */
+    public String build() {
+        final byte[] hash = digest.digest();
+        final char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Describes a {@link MavenResolutionStrategy} in a way that does not change between JVM runs. That is possible only if
+     * all its filters are either enums or provide their own {@link Object#toString()} reflecting their state.
+     *
+     * @param strategy The strategy
+     * @return Description of the strategy or {@code null} if the strategy cannot be described
+     */
+    public static String describe(final MavenResolutionStrategy strategy) {
+        final StringBuilder sb = new StringBuilder(strategy.getClass().getName()).append(" [");
+        for (MavenResolutionFilter filter : strategy.getResolutionFilters()) {
+            if (!hasStableDescription(filter)) {
+                return null;
+            }
+            sb.append(filter.getClass().getName()).append(':').append(filter).append(", ");
+        }
+        final TransitiveExclusionPolicy policy = strategy.getTransitiveExclusionPolicy();
+        return sb.append("], allowOptional=").append(policy.allowOptional()).append(", filteredScopes=")
+                .append(Arrays.toString(policy.getFilteredScopes())).toString();
+    }
+
+    private static boolean hasStableDescription(final Object object) {
+        if (object instanceof Enum) {
+            return true;
+        }
+        try {
+            return object.getClass().getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
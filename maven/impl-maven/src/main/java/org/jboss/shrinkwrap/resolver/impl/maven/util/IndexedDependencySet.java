@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.util;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+
+/**
+ * An insertion ordered set of dependencies which allows to find the element equal to a given dependency, that is the
+ * one with the same groupId, artifactId, type and classifier, by a hash lookup. Intended for
+ * {@code <dependencyManagement>} metadata, which can contain thousands of entries imported from BOMs.
+ * <p>
+ * As with {@link java.util.LinkedHashSet}, adding a dependency equal to an element of the set keeps the element.
+ */
+public final class IndexedDependencySet extends AbstractSet<MavenDependency> {
+
+    private final Map<MavenDependency, MavenDependency> dependencies = new LinkedHashMap<>();
+
+    /**
+     * Returns the element of the set equal to given dependency
+     *
+     * @param dependency The dependency, its version is ignored
+     * @return The element or {@code null} if there is none
+     */
+    public MavenDependency find(final MavenDependency dependency) {
+        return dependencies.get(dependency);
+    }
+
+    @Override
+    public boolean add(final MavenDependency dependency) {
+        if (dependencies.containsKey(dependency)) {
+            return false;
+        }
+        dependencies.put(dependency, dependency);
+        return true;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return dependencies.containsKey(o);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        if (!dependencies.containsKey(o)) {
+            return false;
+        }
+        dependencies.remove(o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        dependencies.clear();
+    }
+
+    @Override
+    public Iterator<MavenDependency> iterator() {
+        return dependencies.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return dependencies.size();
+    }
+}
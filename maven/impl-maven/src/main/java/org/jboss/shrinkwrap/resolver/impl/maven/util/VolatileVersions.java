@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.version.VersionConstraint;
+
+/**
+ * Tells whether versions of dependencies might resolve differently over time, so results of a resolution involving
+ * them must not be reused once the repositories are updated. Such versions are SNAPSHOTs, version ranges and the
+ * LATEST and RELEASE meta-versions.
+ */
+public final class VolatileVersions {
+
+    private VolatileVersions() {
+    }
+
+    /**
+     * Checks whether given requested version might resolve differently over time
+     *
+     * @param version The version, can be {@code null}
+     * @return {@code true} if the version is missing, a SNAPSHOT, a range or a meta-version
+     */
+    public static boolean isVolatile(final String version) {
+        return Validate.isNullOrEmpty(version) || version.endsWith("SNAPSHOT") || "LATEST".equals(version)
+                || "RELEASE".equals(version) || version.indexOf('[') != -1 || version.indexOf('(') != -1;
+    }
+
+    /**
+     * Checks whether any node of given dependency graph was requested with a version which might resolve differently
+     * over time. Both the requested version constraint and the version of the artifact of every node are checked.
+     *
+     * @param root Root of the dependency graph
+     * @return {@code true} if the graph contains a SNAPSHOT, a version range or a meta-version
+     */
+    public static boolean isVolatile(final DependencyNode root) {
+        final Set<DependencyNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<DependencyNode> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            final DependencyNode node = nodes.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            // the root of a graph collected for a list of dependencies has no dependency
+            if (node.getDependency() != null) {
+                final VersionConstraint constraint = node.getVersionConstraint();
+                if (constraint != null && (constraint.getRange() != null || isVolatile(constraint.toString()))) {
+                    return true;
+                }
+                final Artifact artifact = node.getArtifact();
+                if (artifact == null || artifact.isSnapshot() || isVolatile(artifact.getVersion())) {
+                    return true;
+                }
+            }
+            for (DependencyNode child : node.getChildren()) {
+                nodes.push(child);
+            }
+        }
+        return false;
+    }
+}
@@ -16,9 +16,14 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven.coordinate;
 
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates.MavenCoordinateParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -31,6 +36,10 @@ import org.junit.jupiter.api.Test;
  */
 class MavenCoordinateParserTestCase {
 
+    // the regular expression the parser used to be based on
+    private static final Pattern DEPENDENCY_PATTERN = Pattern
+        .compile("([^: ]+):([^: ]+)(:([^: ]*)(:([^: ]+))?)?(:([^: ]+))?");
+
     @Test
     void testGAV() {
         final String coords = "g:a:1";
@@ -141,4 +150,54 @@ class MavenCoordinateParserTestCase {
             MavenCoordinateParser.parse("g:a:::1");
         });
     }
+
+    @Test
+    void parserMatchesRegularExpression() {
+        for (String coords : Arrays.asList("g:a", "g:a:", "g:a:1", "g:a::1", "g:a:pom:1", "g:a:pom:", "g:a:pom:sources:1",
+            "g:a::sources:1", "g:a:pom::1", "g:a:pom:sources:", "g:a:pom:sources:1:x", "g", "", ":", "g:", ":a",
+            ":a:1", "g::1", "g:a:1 ", "g :a:1", "g:a:?", "g:a:test-jar:tests:?", "g:a:unknown:1", "g:a:\t:1",
+            "g.h-i:a_b:war:jdk8:1.0.0-SNAPSHOT", "g:a::::", "::::")) {
+            final String expected = parseWithRegularExpression(coords);
+            String actual;
+            try {
+                final MavenCoordinateParser parser = MavenCoordinateParser.parse(coords);
+                actual = parser.getGroupId() + "|" + parser.getArtifactId() + "|" + parser.getPackaging() + "|"
+                    + parser.getClassifier() + "|" + parser.getVersion();
+            } catch (CoordinateParseException e) {
+                actual = e.getMessage();
+            }
+            Assertions.assertEquals(expected, actual, coords);
+        }
+    }
+
+    private static String parseWithRegularExpression(final String coords) {
+        final Matcher m = DEPENDENCY_PATTERN.matcher(coords);
+        if (!m.matches()) {
+            return "Bad artifact coordinates"
+                + ", expected format is <groupId>:<artifactId>[:<packagingType>[:<classifier>]]:(<version>|'?'), got: "
+                + coords;
+        }
+        final String position3 = m.group(4);
+        String classifier = "";
+        String version = null;
+        PackagingType type = PackagingType.JAR;
+        try {
+            switch (coords.length() - coords.replace(":", "").length()) {
+                case 2:
+                    version = position3;
+                    break;
+                case 3:
+                    type = position3.isEmpty() ? PackagingType.JAR : PackagingType.of(position3);
+                    version = m.group(6);
+                    break;
+                default:
+                    type = position3 == null || position3.isEmpty() ? PackagingType.JAR : PackagingType.of(position3);
+                    classifier = m.group(6);
+                    version = m.group(8);
+            }
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return m.group(1) + "|" + m.group(2) + "|" + type + "|" + classifier + "|" + version;
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that resolved artifacts share their converted dependencies
+ */
+class ArtifactInfoGraphTestCase {
+
+    @Test
+    void commonDependenciesAreConvertedOnce() {
+        // app -> (core, util), core -> util, util -> api
+        final DefaultDependencyNode api = node("api");
+        final DefaultDependencyNode util = node("util", api);
+        final DefaultDependencyNode core = node("core", util);
+        final DefaultDependencyNode app = node("app", core, util);
+
+        final ArtifactInfoGraph graph = new ArtifactInfoGraph();
+        final MavenResolvedArtifact resolvedApp = MavenResolvedArtifactImpl.fromArtifactResult(result(app), graph);
+        final MavenResolvedArtifact resolvedCore = MavenResolvedArtifactImpl.fromArtifactResult(result(core), graph);
+        Assertions.assertEquals(0, graph.size());
+
+        final MavenArtifactInfo[] appDependencies = resolvedApp.getDependencies();
+        Assertions.assertEquals(2, graph.size());
+        Assertions.assertEquals("core", appDependencies[0].getCoordinate().getArtifactId());
+        Assertions.assertSame(appDependencies[1], appDependencies[0].getDependencies()[0]);
+        Assertions.assertSame(appDependencies[1], resolvedCore.getDependencies()[0]);
+        Assertions.assertEquals("api", appDependencies[1].getDependencies()[0].getCoordinate().getArtifactId());
+        Assertions.assertEquals(3, graph.size());
+    }
+
+    @Test
+    void cyclesAreNotFollowedEagerly() {
+        final DefaultDependencyNode cyclic = node("cyclic");
+        cyclic.setChildren(Collections.singletonList(node("other", cyclic)));
+
+        final MavenResolvedArtifact resolved = MavenResolvedArtifactImpl.fromArtifactResult(result(cyclic));
+        final MavenArtifactInfo other = resolved.getDependencies()[0];
+        Assertions.assertSame(other, other.getDependencies()[0].getDependencies()[0]);
+        Assertions.assertTrue(other.toString().contains("dependencies=[org.acme:cyclic:jar:1.0]"), other.toString());
+        Assertions.assertTrue(resolved.toString().contains("org.acme:other:jar:1.0"), resolved.toString());
+    }
+
+    private static DefaultDependencyNode node(final String artifactId, final DefaultDependencyNode... children) {
+        final DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.acme",
+            artifactId, "jar", "1.0").setFile(new File(artifactId + "-1.0.jar")), "compile"));
+        node.setChildren(Arrays.asList(children));
+        return node;
+    }
+
+    private static ArtifactResult result(final DefaultDependencyNode node) {
+        final ArtifactResult result = new ArtifactResult(new ArtifactRequest(node));
+        result.setArtifact(node.getArtifact());
+        return result;
+    }
+}
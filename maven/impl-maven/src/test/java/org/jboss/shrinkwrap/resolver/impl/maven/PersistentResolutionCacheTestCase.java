@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentResolutionCacheTestCase {
+
+    @Test
+    void storedArtifactsAreRestored(@TempDir Path repository) throws IOException {
+        final PersistentResolutionCache cache = new PersistentResolutionCache(repository.toString());
+        final File file = Files.createFile(repository.resolve("foo-1.0.jar")).toFile();
+        cache.put("key", Collections.singletonList(artifact(file)));
+
+        final Collection<MavenResolvedArtifact> restored = cache.get("key");
+        Assertions.assertNotNull(restored);
+        Assertions.assertEquals(1, restored.size());
+
+        final MavenResolvedArtifact artifact = restored.iterator().next();
+        Assertions.assertEquals("org.foo:foo:jar:tests:1.0", artifact.getCoordinate().toCanonicalForm());
+        Assertions.assertEquals(file.getAbsoluteFile(), artifact.asFile().getAbsoluteFile());
+        Assertions.assertEquals(ScopeType.TEST, artifact.getScope());
+        Assertions.assertTrue(artifact.isOptional());
+
+        final MavenArtifactInfo[] dependencies = artifact.getDependencies();
+        Assertions.assertEquals(1, dependencies.length);
+        Assertions.assertEquals("org.bar:bar:pom:2.0", dependencies[0].getCoordinate().toCanonicalForm());
+        Assertions.assertEquals(ScopeType.COMPILE, dependencies[0].getScope());
+    }
+
+    @Test
+    void entriesWithMissingFilesAreIgnored(@TempDir Path repository) throws IOException {
+        final PersistentResolutionCache cache = new PersistentResolutionCache(repository.toString());
+        final File file = Files.createFile(repository.resolve("foo-1.0.jar")).toFile();
+        cache.put("key", Collections.singletonList(artifact(file)));
+
+        Files.delete(file.toPath());
+        Assertions.assertNull(cache.get("key"));
+        Assertions.assertNull(cache.get("unknown"));
+    }
+
+    private static MavenResolvedArtifact artifact(File file) {
+        final MavenArtifactInfo dependency = new MavenArtifactInfoImpl(MavenCoordinates.createCoordinate("org.bar",
+                "bar", "2.0", PackagingType.POM, null), "2.0", false, "pom", ScopeType.COMPILE,
+                new MavenArtifactInfo[0], false);
+        return new MavenResolvedArtifactImpl(MavenCoordinates.createCoordinate("org.foo", "foo", "1.0",
+                PackagingType.JAR, "tests"), "1.0", false, "jar", file, ScopeType.TEST,
+                new MavenArtifactInfo[] { dependency }, true);
+    }
+}
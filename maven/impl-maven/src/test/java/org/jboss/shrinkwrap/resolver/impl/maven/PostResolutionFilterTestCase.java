@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies POM artifacts are filtered out of resolution results unless explicitly requested
+ */
+class PostResolutionFilterTestCase {
+
+    @Test
+    void requestedPomIsKeptByNonTransitiveStrategy() {
+        final Collection<MavenResolvedArtifact> artifacts = Arrays.asList(artifact("org.foo:bom:pom:1.0"),
+                artifact("org.foo:parent:pom:1.0"), artifact("org.foo:foo:jar:1.0"));
+        final List<MavenDependency> requested = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            requested.add(MavenDependencies.createDependency("org.foo:managed-" + i + ":1.0", ScopeType.COMPILE, false));
+        }
+        requested.add(MavenDependencies.createDependency("org.foo:bom:pom:1.0", ScopeType.IMPORT, false));
+
+        Assertions.assertEquals(Arrays.asList("bom", "foo"),
+                artifactIds(PostResolutionFilter.filter(artifacts, requested, NonTransitiveStrategy.INSTANCE)));
+        Assertions.assertEquals(Collections.singletonList("foo"),
+                artifactIds(PostResolutionFilter.filter(artifacts, requested, TransitiveStrategy.INSTANCE)));
+    }
+
+    private static MavenResolvedArtifact artifact(String canonicalForm) {
+        final MavenCoordinate coordinate = MavenCoordinates.createCoordinate(canonicalForm);
+        return new MavenResolvedArtifactImpl(coordinate, coordinate.getVersion(), false,
+                coordinate.getPackaging().getExtension(), new File(canonicalForm), ScopeType.COMPILE,
+                new MavenArtifactInfo[0], false);
+    }
+
+    private static List<String> artifactIds(Collection<MavenResolvedArtifact> artifacts) {
+        final List<String> artifactIds = new ArrayList<>();
+        for (MavenResolvedArtifact artifact : artifacts) {
+            artifactIds.add(artifact.getCoordinate().getArtifactId());
+        }
+        return artifactIds;
+    }
+}
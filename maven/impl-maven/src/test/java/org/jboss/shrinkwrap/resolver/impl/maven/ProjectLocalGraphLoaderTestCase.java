@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies loading of consumer POM files from a project-local repository
+ */
+class ProjectLocalGraphLoaderTestCase {
+
+    private Path repository;
+    private final Map<File, Set<MavenDependency>> declared = new ConcurrentHashMap<>();
+    private final Map<File, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void createRepository() throws IOException {
+        repository = Files.createTempDirectory("swr-project-local");
+        // app -> (core, api), core -> (api, util), api -> util
+        module("app", "core", "api");
+        module("core", "api", "util");
+        module("api", "util");
+        module("util");
+    }
+
+    @AfterEach
+    void deleteRepository() throws IOException {
+        TestFileUtil.removeDirectory(repository.toFile());
+    }
+
+    @Test
+    void dependenciesAreAddedDepthFirst() {
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        final Set<MavenDependency> allDependencies = new LinkedHashSet<>(Collections.singleton(dependency("app")));
+
+        Assertions.assertTrue(loader.addTransitiveDependencies(Collections.singletonList(dependency("app")),
+            allDependencies, this::read));
+
+        Assertions.assertEquals(Arrays.asList(dependency("app"), dependency("core"), dependency("api"),
+            dependency("util")), new ArrayList<>(allDependencies));
+    }
+
+    @Test
+    void consumerPomsAreReadOncePerLoader() {
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        for (int i = 0; i < 3; i++) {
+            loader.addTransitiveDependencies(Arrays.asList(dependency("app"), dependency("core")),
+                new LinkedHashSet<>(), this::read);
+        }
+        Assertions.assertEquals(4, reads.size());
+        for (AtomicInteger count : reads.values()) {
+            Assertions.assertEquals(1, count.get());
+        }
+    }
+
+    @Test
+    void consumerPomsAreReadAgainWhenRepositoryChanges() throws IOException {
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        final Set<MavenDependency> allDependencies = new LinkedHashSet<>();
+        loader.addTransitiveDependencies(Collections.singletonList(dependency("extra")), allDependencies, this::read);
+        Assertions.assertTrue(allDependencies.isEmpty());
+
+        module("extra", "util");
+        Assertions.assertTrue(loader.addTransitiveDependencies(Collections.singletonList(dependency("extra")),
+            allDependencies, this::read));
+        Assertions.assertEquals(Collections.singleton(dependency("util")), allDependencies);
+    }
+
+    @Test
+    void artifactsInstalledAfterRefreshAreFoundByNextRefresh() throws IOException {
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        loader.addTransitiveDependencies(Collections.singletonList(dependency("app")), new LinkedHashSet<>(),
+            this::read);
+        Assertions.assertNull(loader.findArtifact("org.acme", "app", "1.0", null, null));
+
+        Files.createFile(repository.resolve("org.acme/app/1.0/app-1.0.jar"));
+        // the index is authoritative until it is refreshed
+        Assertions.assertNull(loader.findArtifact("org.acme", "app", "1.0", null, null));
+        loader.addTransitiveDependencies(Collections.singletonList(dependency("app")), new LinkedHashSet<>(),
+            this::read);
+        Assertions.assertEquals(repository.resolve("org.acme/app/1.0/app-1.0.jar"),
+            loader.findArtifact("org.acme", "app", "1.0", null, null));
+    }
+
+    @Test
+    void failuresAreReportedWhenConsumerPomIsNeeded() {
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        final Function<File, Set<MavenDependency>> failing = consumerPom -> {
+            if (consumerPom.getName().startsWith("util")) {
+                throw new IllegalArgumentException("Broken " + consumerPom.getName());
+            }
+            return read(consumerPom);
+        };
+        final IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> loader.addTransitiveDependencies(Collections.singletonList(dependency("app")), new LinkedHashSet<>(),
+                failing));
+        Assertions.assertEquals("Broken util-1.0-consumer.pom", e.getMessage());
+    }
+
+    @Test
+    void artifactsWithoutConsumerPomAreIgnored() throws IOException {
+        Files.createFile(repository.resolve("org.acme/app/1.0/app-1.0-tests.jar"));
+        final ProjectLocalGraphLoader loader = new ProjectLocalGraphLoader(repository, false);
+        Assertions.assertFalse(loader.addTransitiveDependencies(Collections.singletonList(dependency("missing")),
+            new LinkedHashSet<>(), this::read));
+        Assertions.assertEquals(repository.resolve("org.acme/app/1.0/app-1.0-tests.jar"),
+            loader.findArtifact("org.acme", "app", "1.0", "tests", null));
+        Assertions.assertNull(loader.findArtifact("org.acme", "app", "1.0", null, null));
+    }
+
+    private Set<MavenDependency> read(final File consumerPom) {
+        reads.computeIfAbsent(consumerPom, file -> new AtomicInteger()).incrementAndGet();
+        return new LinkedHashSet<>(declared.get(consumerPom));
+    }
+
+    private void module(final String artifactId, final String... dependencies) throws IOException {
+        final Path directory = Files.createDirectories(repository.resolve("org.acme").resolve(artifactId)
+            .resolve("1.0"));
+        final File consumerPom = Files.createFile(directory.resolve(artifactId + "-1.0-consumer.pom")).toFile();
+        final Set<MavenDependency> set = new LinkedHashSet<>();
+        for (String dependency : dependencies) {
+            set.add(dependency(dependency));
+        }
+        declared.put(consumerPom, set);
+    }
+
+    private static MavenDependency dependency(final String artifactId) {
+        return MavenDependencies.createDependency("org.acme:" + artifactId + ":1.0", ScopeType.COMPILE, false);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RequestTrace;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies artifacts are published once as Aether resolves them
+ */
+class ResolvedArtifactPublisherTestCase {
+
+    @Test
+    void artifactsOfGraphNodesArePublishedOnce() {
+        final List<MavenResolvedArtifact> published = new ArrayList<>();
+        final ResolvedArtifactPublisher publisher = new ResolvedArtifactPublisher(new ArtifactInfoGraph(),
+                PostResolutionFilter.accepting(Collections.emptyList(), TransitiveStrategy.INSTANCE), published::add);
+
+        final ArtifactRequest jar = request("org.foo:foo:jar:1.0");
+        final ArtifactRequest pom = request("org.foo:parent:pom:1.0");
+        publisher.artifactResolved(resolved(jar));
+        publisher.artifactResolved(resolved(pom));
+        // a POM read while the graph was collected
+        publisher.artifactResolved(resolved(new ArtifactRequest(artifact("org.foo:bar:pom:1.0"), null, null)));
+
+        Assertions.assertEquals(1, published.size());
+        Assertions.assertEquals("foo", published.get(0).getCoordinate().getArtifactId());
+
+        final ArtifactResult result = new ArtifactResult(jar);
+        result.setArtifact(artifact("org.foo:foo:jar:1.0"));
+        Assertions.assertSame(published.get(0), publisher.publish(result));
+        Assertions.assertEquals(1, published.size());
+    }
+
+    private static ArtifactRequest request(String coordinates) {
+        final ArtifactRequest request = new ArtifactRequest();
+        request.setArtifact(new DefaultArtifact(coordinates));
+        request.setDependencyNode(new DefaultDependencyNode(new Dependency(request.getArtifact(), "compile")));
+        return request;
+    }
+
+    private static Artifact artifact(String coordinates) {
+        return new DefaultArtifact(coordinates).setFile(new File(coordinates.replace(':', '-')));
+    }
+
+    private static RepositoryEvent resolved(ArtifactRequest request) {
+        return new RepositoryEvent.Builder(MavenRepositorySystemUtils.newSession(),
+                RepositoryEvent.EventType.ARTIFACT_RESOLVED)
+                .setArtifact(artifact(request.getArtifact().toString()))
+                .setTrace(new RequestTrace(request))
+                .build();
+    }
+}
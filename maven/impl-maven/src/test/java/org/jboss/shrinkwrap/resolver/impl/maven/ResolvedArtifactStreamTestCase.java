@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies artifacts are handed over from a resolving thread to a consuming stream
+ */
+class ResolvedArtifactStreamTestCase {
+
+    @Test
+    void artifactsAreConsumedWhileResolutionRuns() throws InterruptedException {
+        final ResolvedArtifactStream stream = new ResolvedArtifactStream();
+        stream.accept(artifact("org.foo:foo:1.0"));
+        final Iterator<MavenResolvedArtifact> artifacts = stream.stream().iterator();
+        Assertions.assertEquals("foo", artifacts.next().getCoordinate().getArtifactId());
+
+        final Thread resolution = new Thread(() -> {
+            stream.accept(artifact("org.foo:bar:1.0"));
+            stream.complete();
+        });
+        resolution.start();
+        Assertions.assertEquals("bar", artifacts.next().getCoordinate().getArtifactId());
+        Assertions.assertFalse(artifacts.hasNext());
+        resolution.join();
+    }
+
+    @Test
+    void failureIsThrownAfterResolvedArtifacts() {
+        final ResolvedArtifactStream stream = new ResolvedArtifactStream();
+        stream.accept(artifact("org.foo:foo:1.0"));
+        stream.fail(new NoResolvedResultException("org.foo:bar:1.0 not found"));
+        final Iterator<MavenResolvedArtifact> artifacts = stream.stream().iterator();
+        Assertions.assertEquals("foo", artifacts.next().getCoordinate().getArtifactId());
+        Assertions.assertThrows(NoResolvedResultException.class, artifacts::hasNext);
+    }
+
+    @Test
+    void closingStreamCancelsResolution() {
+        final ResolvedArtifactStream stream = new ResolvedArtifactStream();
+        try (Stream<MavenResolvedArtifact> artifacts = stream.stream()) {
+            Assertions.assertFalse(stream.isClosed());
+        }
+        Assertions.assertTrue(stream.isClosed());
+        stream.accept(artifact("org.foo:foo:1.0"));
+        stream.complete();
+        Assertions.assertEquals(0, stream.stream().collect(Collectors.toList()).size());
+    }
+
+    private static MavenResolvedArtifact artifact(String canonicalForm) {
+        final MavenCoordinate coordinate = MavenCoordinates.createCoordinate(canonicalForm);
+        return new MavenResolvedArtifactImpl(coordinate, coordinate.getVersion(), false, "jar",
+                new File(canonicalForm), ScopeType.COMPILE, new MavenArtifactInfo[0], false);
+    }
+}
@@ -17,8 +17,14 @@
 package org.jboss.shrinkwrap.resolver.impl.maven.aether;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.junit.jupiter.api.AfterEach;
@@ -128,6 +134,45 @@ class ClassPathScanningTestCase {
         testFindArtifactReturnsNotNull("test-revision-custom");
     }
 
+    @Test
+    void archivesAreFoundInClasspathOrder() throws Exception {
+        final File first = createArchive("target/classpath-index/first/indexed-1.0.jar");
+        final File second = createArchive("target/classpath-index/second/indexed-1.0.jar");
+        final File classified = createArchive("target/classpath-index/second/indexed-1.0-tests.jar");
+        System.setProperty(SUREFIRE_CLASS_PATH_KEY, first.getAbsolutePath() + File.pathSeparator
+                + second.getAbsolutePath() + File.pathSeparator + classified.getAbsolutePath());
+
+        final ClasspathWorkspaceReader reader = new ClasspathWorkspaceReader();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<File>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> reader.findArtifact(new DefaultArtifact("org.example:indexed:1.0"))));
+            }
+            for (Future<File> result : results) {
+                Assertions.assertEquals(first.getAbsoluteFile(), result.get().getAbsoluteFile());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(classified.getAbsoluteFile(),
+                reader.findArtifact(new DefaultArtifact("org.example:indexed:jar:tests:1.0")).getAbsoluteFile());
+        Assertions.assertNull(reader.findArtifact(new DefaultArtifact("org.example:indexed:war:1.0")));
+        Assertions.assertNull(reader.findArtifact(new DefaultArtifact("org.example:indexed:2.0")));
+    }
+
+    private File createArchive(String path) throws IOException {
+        final File archive = new File(path);
+        if (!archive.getParentFile().isDirectory() && !archive.getParentFile().mkdirs()) {
+            throw new IllegalStateException("Could not create " + archive.getParentFile().getAbsolutePath());
+        }
+        if (!archive.isFile() && !archive.createNewFile()) {
+            throw new IllegalStateException("Could not create " + archive.getAbsolutePath());
+        }
+        return archive;
+    }
+
     private void testFindArtifactReturnsNotNull(String testDirName) {
         final File classesDir = new File("target/poms/" + testDirName + "/child/target/classes");
         // create empty target/classes dir (would otherwise require a dummy file in src because git does not like empty dirs)
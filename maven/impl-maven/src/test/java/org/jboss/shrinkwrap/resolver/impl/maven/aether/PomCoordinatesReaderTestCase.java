@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PomCoordinatesReader}.
+ */
+class PomCoordinatesReaderTestCase {
+
+    private final PomCoordinatesReader reader = new PomCoordinatesReader();
+
+    @Test
+    void readsProjectCoordinates() throws Exception {
+        final Artifact artifact = reader.read(writePom("declared", "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+                + "<modelVersion>4.0.0</modelVersion>"
+                + "<parent><groupId>org.example.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<groupId> org.example </groupId><artifactId>child</artifactId><version>1.0</version>"
+                + "<packaging>war</packaging></project>"));
+
+        Assertions.assertEquals("org.example", artifact.getGroupId());
+        Assertions.assertEquals("child", artifact.getArtifactId());
+        Assertions.assertEquals("war", artifact.getExtension());
+        Assertions.assertEquals("1.0", artifact.getVersion());
+    }
+
+    @Test
+    void inheritsFromParent() throws Exception {
+        final Artifact artifact = reader.read(writePom("inherited", "<project>"
+                + "<parent><groupId>org.example.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<artifactId>child</artifactId></project>"));
+
+        Assertions.assertEquals("org.example.parent", artifact.getGroupId());
+        Assertions.assertEquals("jar", artifact.getExtension());
+        Assertions.assertEquals("2.0", artifact.getVersion());
+    }
+
+    @Test
+    void stopsReadingAtDependencies() throws Exception {
+        // anything past <dependencies> is never parsed, so the document does not even need to be complete
+        final Artifact artifact = reader.read(writePom("truncated", "<project>"
+                + "<groupId>org.example</groupId><artifactId>child</artifactId><version>1.0</version>"
+                + "<packaging>jar</packaging><dependencies><dependency><groupId>broken"));
+
+        Assertions.assertEquals("org.example:child:jar:1.0", artifact.toString());
+    }
+
+    @Test
+    void stopsReadingAtDependenciesWithInheritedCoordinates() throws Exception {
+        final Artifact artifact = reader.read(writePom("truncated-inherited", "<project>"
+                + "<parent><groupId>org.example.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<artifactId>child</artifactId><packaging>war</packaging>"
+                + "<dependencies><dependency><groupId>broken"));
+
+        Assertions.assertEquals("org.example.parent:child:war:2.0", artifact.toString());
+    }
+
+    @Test
+    void readsPackagingDeclaredAfterDependencies() throws Exception {
+        final Artifact artifact = reader.read(writePom("packaging-last", "<project>"
+                + "<parent><groupId>org.example.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<artifactId>child</artifactId>"
+                + "<dependencies><dependency><groupId>org.example.dep</groupId><artifactId>dep</artifactId>"
+                + "<version>3.0</version></dependency></dependencies><build/><packaging>ejb</packaging></project>"));
+
+        Assertions.assertEquals("org.example.parent:child:ejb:2.0", artifact.toString());
+    }
+
+    @Test
+    void readsCoordinatesDeclaredAfterDependencies() throws Exception {
+        final Artifact artifact = reader.read(writePom("reordered", "<project>"
+                + "<parent><groupId>org.example.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<artifactId>child</artifactId>"
+                + "<dependencies><dependency><groupId>org.example.dep</groupId><version>3.0</version></dependency>"
+                + "</dependencies><build/><groupId>org.example</groupId><version>1.0</version></project>"));
+
+        Assertions.assertEquals("org.example:child:jar:1.0", artifact.toString());
+    }
+
+    private File writePom(String name, String content) throws IOException {
+        final File pom = new File("target/pom-coordinates/" + name + "/pom.xml");
+        if (!pom.getParentFile().isDirectory() && !pom.getParentFile().mkdirs()) {
+            throw new IllegalStateException("Could not create " + pom.getParentFile().getAbsolutePath());
+        }
+        Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
+}
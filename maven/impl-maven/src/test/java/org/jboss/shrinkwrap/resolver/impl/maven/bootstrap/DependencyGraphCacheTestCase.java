@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.Arrays;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies caching of collected dependency graphs
+ */
+class DependencyGraphCacheTestCase {
+
+    @Test
+    void cachedGraphIsCopied() {
+        final DependencyGraphCache cache = new DependencyGraphCache(100);
+        final DependencyGraphCache.Key key = key("a");
+        Assertions.assertNull(cache.get(key));
+
+        final DependencyNode root = graph("org.foo:foo:1.0", "org.foo:bar:1.0");
+        cache.put(key, root);
+        root.getChildren().clear();
+
+        final DependencyNode cached = cache.get(key);
+        Assertions.assertNotSame(root, cached);
+        Assertions.assertEquals(2, cached.getChildren().size());
+        cached.getChildren().clear();
+
+        Assertions.assertEquals(2, cache.get(key("a")).getChildren().size());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void leastRecentlyUsedGraphsAreEvicted() {
+        final DependencyGraphCache cache = new DependencyGraphCache(6);
+        cache.put(key("a"), graph("org.foo:a:1.0"));
+        cache.put(key("b"), graph("org.foo:b:1.0"));
+        cache.put(key("c"), graph("org.foo:c:1.0"));
+        Assertions.assertEquals(6, cache.getNodeCount());
+
+        Assertions.assertNotNull(cache.get(key("a")));
+        cache.put(key("d"), graph("org.foo:d:1.0"));
+
+        Assertions.assertEquals(3, cache.getGraphCount());
+        Assertions.assertEquals(6, cache.getNodeCount());
+        Assertions.assertNotNull(cache.get(key("a")));
+        Assertions.assertNull(cache.get(key("b")), "Least recently used graph should be evicted");
+
+        cache.put(key("e"), graph("org.foo:e1:1.0", "org.foo:e2:1.0", "org.foo:e3:1.0", "org.foo:e4:1.0",
+                "org.foo:e5:1.0", "org.foo:e6:1.0"));
+        Assertions.assertNull(cache.get(key("e")), "Graphs larger than the cache should not be cached");
+        Assertions.assertEquals(3, cache.getGraphCount());
+    }
+
+    @Test
+    void sharedNodesAreCopiedOnce() {
+        final DependencyGraphCache cache = new DependencyGraphCache(100);
+        final DependencyNode shared = new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.foo:shared:1.0"),
+                "compile"));
+        final DependencyNode root = graph("org.foo:a:1.0", "org.foo:b:1.0");
+        for (DependencyNode child : root.getChildren()) {
+            child.setChildren(Arrays.asList(shared));
+        }
+        cache.put(key("a"), root);
+
+        final DependencyNode cached = cache.get(key("a"));
+        Assertions.assertEquals(4, cache.getNodeCount());
+        Assertions.assertSame(cached.getChildren().get(0).getChildren().get(0),
+                cached.getChildren().get(1).getChildren().get(0));
+    }
+
+    @Test
+    void graphsWithVolatileVersionsAreNotCached() {
+        final DependencyGraphCache cache = new DependencyGraphCache(100);
+        cache.put(key("a"), graph("org.foo:foo:1.0-SNAPSHOT"));
+        cache.put(key("b"), graph("org.foo:foo:LATEST"));
+        Assertions.assertEquals(0, cache.getGraphCount());
+    }
+
+    @Test
+    void workspaceReaderIsPartOfKey() {
+        final DependencyGraphCache cache = new DependencyGraphCache(100);
+        cache.put(key("a"), graph("org.foo:foo:1.0"));
+        Assertions.assertNull(cache.get(new DependencyGraphCache.Key("a", null, "target/graph-cache-repository", false,
+                "org.example.WorkspaceReader")));
+    }
+
+    private static DependencyGraphCache.Key key(String request) {
+        return new DependencyGraphCache.Key(request, null, "target/graph-cache-repository", false, null);
+    }
+
+    private static DependencyNode graph(String... dependencies) {
+        final DependencyNode root = new DefaultDependencyNode((Dependency) null);
+        for (String dependency : dependencies) {
+            root.getChildren().add(new DefaultDependencyNode(new Dependency(new DefaultArtifact(dependency), "compile")));
+        }
+        return root;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import org.apache.maven.settings.Settings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that {@link MavenRepositorySystem} instances share bootstrapped repository systems
+ */
+class MavenContextPoolTestCase {
+
+    @Test
+    void sameSettingsShareContext() {
+        final Settings settings = settings("target/context-pool-repository", false);
+        final int pooled = MavenContextPool.INSTANCE.size();
+
+        final MavenRepositorySystem first = MavenRepositorySystem.forSettings(settings);
+        final MavenRepositorySystem second = MavenRepositorySystem.forSettings(settings);
+        Assertions.assertEquals(pooled + 1, MavenContextPool.INSTANCE.size(), "Context should be bootstrapped once");
+
+        first.close();
+        second.close();
+        second.close();
+        Assertions.assertEquals(pooled + 1, MavenContextPool.INSTANCE.size(), "Context should live as long as the JVM");
+
+        MavenRepositorySystem.forSettings(settings).close();
+        Assertions.assertEquals(pooled + 1, MavenContextPool.INSTANCE.size(), "Context should be reused");
+    }
+
+    @Test
+    void differentSettingsUseDifferentContexts() {
+        final Settings online = settings("target/context-pool-other-repository", false);
+        final Settings offline = settings("target/context-pool-other-repository", true);
+        final int pooled = MavenContextPool.INSTANCE.size();
+
+        final MavenRepositorySystem first = MavenRepositorySystem.forSettings(online);
+        final MavenRepositorySystem second = MavenRepositorySystem.forSettings(offline);
+        try {
+            Assertions.assertEquals(pooled + 2, MavenContextPool.INSTANCE.size());
+            Assertions.assertTrue(first.isCompatibleWith(online));
+            Assertions.assertFalse(first.isCompatibleWith(offline));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    private static Settings settings(String localRepository, boolean offline) {
+        final Settings settings = new Settings();
+        settings.setLocalRepository(localRepository);
+        settings.setOffline(offline);
+        return settings;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.AcceptAllFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies adaptation of {@link MavenResolutionFilter}s to Aether
+ */
+class MavenResolutionFilterWrapTestCase {
+
+    @Test
+    void ancestorsAreOrderedFromImmediateParent() {
+        final List<List<String>> seen = new ArrayList<>();
+        final MavenResolutionFilter recording = (dependency, dependenciesForResolution, ancestors) -> {
+            final List<String> path = new ArrayList<>();
+            for (MavenDependency ancestor : ancestors) {
+                path.add(ancestor.getArtifactId());
+            }
+            seen.add(path);
+            return true;
+        };
+        final MavenResolutionFilterWrap wrap = new MavenResolutionFilterWrap(new MavenResolutionFilter[] { recording },
+                Collections.<MavenDependency> emptyList());
+
+        final DependencyNode root = new DefaultDependencyNode((Dependency) null);
+        final DependencyNode a = node("a");
+        final DependencyNode b = node("b");
+        Assertions.assertTrue(wrap.accept(node("c"), Arrays.asList(b, a, root)));
+        Assertions.assertTrue(wrap.accept(node("d"), Arrays.asList(b, root, a)));
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("b", "a"), Arrays.asList("b", "a")), seen);
+    }
+
+    @Test
+    void dependencyIsConvertedOnce() {
+        final List<MavenDependency> seen = new ArrayList<>();
+        final MavenResolutionFilter recording = (dependency, dependenciesForResolution, ancestors) -> {
+            seen.add(dependency);
+            seen.addAll(ancestors);
+            return true;
+        };
+        final MavenResolutionFilterWrap wrap = new MavenResolutionFilterWrap(new MavenResolutionFilter[] { recording,
+                recording }, Collections.<MavenDependency> emptyList());
+
+        final DependencyNode parent = node("parent");
+        final DependencyNode child = node("child");
+        wrap.accept(parent, Collections.<DependencyNode> emptyList());
+        wrap.accept(child, Collections.singletonList(parent));
+
+        Assertions.assertEquals(6, seen.size());
+        Assertions.assertSame(seen.get(0), seen.get(1));
+        Assertions.assertSame(seen.get(0), seen.get(3));
+        Assertions.assertSame(seen.get(0), seen.get(5));
+        Assertions.assertSame(seen.get(2), seen.get(4));
+    }
+
+    @Test
+    void acceptAllFiltersRejectOnlyRoot() {
+        final MavenResolutionFilterWrap wrap = new MavenResolutionFilterWrap(new MavenResolutionFilter[] {
+                AcceptAllFilter.INSTANCE }, Collections.<MavenDependency> emptyList());
+
+        Assertions.assertTrue(wrap.accept(node("a"), Collections.<DependencyNode> emptyList()));
+        Assertions.assertFalse(wrap.accept(new DefaultDependencyNode((Dependency) null),
+                Collections.<DependencyNode> emptyList()));
+    }
+
+    private static DependencyNode node(String artifactId) {
+        return new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.foo", artifactId, "jar", "1.0"),
+                "compile"));
+    }
+}
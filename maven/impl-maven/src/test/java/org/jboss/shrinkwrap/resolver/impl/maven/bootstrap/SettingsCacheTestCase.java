@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
+import org.apache.maven.settings.building.SettingsBuildingRequest;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies reuse of settings built from unmodified files
+ */
+class SettingsCacheTestCase {
+
+    private Path directory;
+    private File userSettings;
+
+    @BeforeEach
+    void createSettings() throws IOException {
+        SettingsCache.getInstance().clear();
+        directory = Files.createTempDirectory("swr-settings-cache");
+        userSettings = directory.resolve("settings.xml").toFile();
+        writeSettings("cached-repository");
+    }
+
+    @AfterEach
+    void deleteSettings() throws IOException {
+        SettingsCache.getInstance().clear();
+        TestFileUtil.removeDirectory(directory.toFile());
+    }
+
+    @Test
+    void settingsAreCopiedForEverySession() {
+        final Settings first = new MavenSettingsBuilder().buildSettings(request());
+        first.setLocalRepository("modified-repository");
+        first.setOffline(true);
+
+        final Settings second = new MavenSettingsBuilder().buildSettings(request());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("cached-repository", second.getLocalRepository());
+        Assertions.assertFalse(second.isOffline());
+    }
+
+    @Test
+    void modifiedSettingsAreBuiltAgain() throws IOException {
+        Assertions.assertEquals("cached-repository",
+            new MavenSettingsBuilder().buildSettings(request()).getLocalRepository());
+
+        writeSettings("modified-repository");
+        Assertions.assertTrue(userSettings.setLastModified(userSettings.lastModified() + 10000L));
+
+        Assertions.assertEquals("modified-repository",
+            new MavenSettingsBuilder().buildSettings(request()).getLocalRepository());
+    }
+
+    @Test
+    void systemPropertiesArePartOfKey() {
+        final File securitySettings = directory.resolve("settings-security.xml").toFile();
+        final SettingsBuildingRequest request = request();
+        Assertions.assertEquals(SettingsCache.key(request, securitySettings), SettingsCache.key(request(),
+            securitySettings));
+
+        request.getSystemProperties().setProperty("swr.settings.cache.test", "true");
+        Assertions.assertNotEquals(SettingsCache.key(request, securitySettings), SettingsCache.key(request(),
+            securitySettings));
+    }
+
+    private SettingsBuildingRequest request() {
+        return new DefaultSettingsBuildingRequest().setUserSettingsFile(userSettings)
+            .setSystemProperties(System.getProperties());
+    }
+
+    private void writeSettings(final String localRepository) throws IOException {
+        Files.write(userSettings.toPath(), ("<settings><localRepository>" + localRepository
+            + "</localRepository></settings>").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies worker pools created by {@link MavenRepositorySystem#newWorkerPool(int, String, boolean)}
+ */
+class WorkerPoolTestCase {
+
+    @Test
+    void platformWorkersAreDaemons() throws Exception {
+        final Thread worker = worker(false);
+
+        Assertions.assertTrue(worker.isDaemon());
+        Assertions.assertTrue(worker.getName().startsWith("test-worker-"), worker.getName());
+        Assertions.assertFalse(isVirtual(worker));
+    }
+
+    @Test
+    void virtualWorkersAreUsedWhenSupported() throws Exception {
+        final Thread worker = worker(true);
+
+        Assertions.assertTrue(worker.isDaemon());
+        Assertions.assertTrue(worker.getName().startsWith("test-worker-"), worker.getName());
+        Assertions.assertEquals(WorkerThreadFactories.isVirtualThreadsSupported(), isVirtual(worker));
+    }
+
+    private static Thread worker(final boolean virtualThreads) throws Exception {
+        final ExecutorService pool = MavenRepositorySystem.newWorkerPool(1, "test-worker-", virtualThreads);
+        try {
+            return pool.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static boolean isVirtual(final Thread thread) throws Exception {
+        if (!WorkerThreadFactories.isVirtualThreadsSupported()) {
+            return false;
+        }
+        return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
+import org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.MavenWorkingSessionContainer;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies asynchronous resolution and its cancellation
+ */
+class AsyncResolutionTestCase {
+
+    private static final String ASYNC_LOCAL_REPOSITORY = "target/async-repository";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() throws IOException {
+        TestFileUtil.removeDirectory(new File(ASYNC_LOCAL_REPOSITORY));
+        // graphs collected by other tests would let the resolver skip downloading of POM files
+        MavenRepositorySystem.getDependencyGraphCache().clear();
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, ASYNC_LOCAL_REPOSITORY);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void resolverIsReusableWhileResolutionRuns() throws Exception {
+        final ConfigurableMavenResolverSystem resolver = resolver();
+
+        final CompletableFuture<MavenFormatStage> c = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+            .withTransitivityAsync(executor);
+        final File[] g = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-g:1.0.0").withTransitivity().asFile();
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(c.get(1, TimeUnit.MINUTES).asFile());
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-g.tree"))
+            .validate(g);
+    }
+
+    @Test
+    void failureCompletesFutureExceptionally() {
+        final CompletableFuture<MavenFormatStage> future = resolver()
+            .resolve("org.jboss.shrinkwrap.test:test-deps-non-existent:1.0.0").withoutTransitivityAsync(executor);
+
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+            () -> future.get(1, TimeUnit.MINUTES));
+        Assertions.assertTrue(e.getCause() instanceof ResolutionException, "Unexpected cause " + e.getCause());
+    }
+
+    @Test
+    void cancelledFutureIsNotResolved() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final CompletableFuture<MavenFormatStage> future = resolver()
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0").withTransitivityAsync(tasks::add);
+
+        Assertions.assertTrue(future.cancel(true));
+        Assertions.assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        Assertions.assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void cancellationAbortsTransfers() {
+        final MavenWorkingSession session = ((MavenWorkingSessionContainer) resolver()).getMavenWorkingSession();
+        // the first check precedes resolution, any further one comes from a transfer
+        final AtomicInteger checks = new AtomicInteger();
+
+        final ResolutionException e = Assertions.assertThrows(ResolutionException.class,
+            () -> session.resolveDependencies(Collections.singletonList(MavenDependencies.createDependency(
+                "org.jboss.shrinkwrap.test:test-deps-c:1.0.0", null, false)), TransitiveStrategy.INSTANCE,
+                () -> checks.incrementAndGet() > 1));
+        Assertions.assertEquals("Resolution was cancelled", e.getMessage());
+        Assertions.assertTrue(checks.get() > 1, "Transfers did not check for cancellation");
+    }
+
+    private static ConfigurableMavenResolverSystem resolver() {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("test", new File("target/repository").toURI().toString(), "default");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies resolution of multiple independent sets of dependencies at once
+ */
+class BatchResolutionTestCase {
+
+    @Test
+    void resolveIndependentSets() {
+        final Map<String, List<String>> sets = new LinkedHashMap<>();
+        sets.put("c", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0"));
+        sets.put("c+g", Arrays.asList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0",
+            "org.jboss.shrinkwrap.test:test-deps-g:1.0.0"));
+        sets.put("g", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-g:1.0.0"));
+
+        final Map<String, MavenFormatStage> resolved = Maven.configureResolver()
+            .fromFile("target/settings/profiles/settings.xml").resolveAll(sets);
+
+        Assertions.assertEquals(Arrays.asList("c", "c+g", "g"), Arrays.asList(resolved.keySet().toArray()));
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(resolved.get("c").asFile());
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c+g.tree"))
+            .validate(resolved.get("c+g").asFile());
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-g.tree"))
+            .validate(resolved.get("g").asFile());
+    }
+
+    @Test
+    void versionsAreInferredFromLoadedPom() {
+        final MavenResolverSystem resolver = Maven.configureResolver()
+            .fromFile("target/settings/profiles/settings.xml");
+        resolver.loadPomFromFile("target/poms/test-bom.xml");
+
+        final Map<String, List<String>> sets = new LinkedHashMap<>();
+        sets.put("a", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-a"));
+        sets.put("b", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-b"));
+
+        final Map<String, MavenFormatStage> resolved = resolver.resolveAll(sets, NonTransitiveStrategy.INSTANCE);
+
+        new ValidationUtil("test-deps-a-1.0.0.jar").validate(resolved.get("a").asFile());
+        new ValidationUtil("test-deps-b-1.0.0.jar").validate(resolved.get("b").asFile());
+    }
+
+    @Test
+    void missingVersionIsReportedBeforeResolution() {
+        final Map<String, List<String>> sets = Collections.singletonMap("a",
+            Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-a"));
+
+        Assertions.assertThrows(ResolutionException.class, () -> Maven.resolver().resolveAll(sets));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies artifacts are downloaded concurrently from a remote repository which responds with a latency
+ */
+class ParallelDownloadsTestCase {
+
+    private static final int HTTP_TEST_PORT = 12346;
+
+    private static final long LATENCY_MILLIS = 200;
+
+    private static final String PARALLEL_DOWNLOADS_REPOSITORY = "target/parallel-downloads-repository";
+
+    private Server server;
+
+    private LatencyFileHandler handler;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        TestFileUtil.removeDirectory(new File(PARALLEL_DOWNLOADS_REPOSITORY));
+        // graphs collected by other tests would let the resolver skip downloading of POM files
+        MavenRepositorySystem.getDependencyGraphCache().clear();
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, PARALLEL_DOWNLOADS_REPOSITORY);
+
+        handler = new LatencyFileHandler(new File("target/repository"));
+        server = new Server(HTTP_TEST_PORT);
+        server.setHandler(handler);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        server.stop();
+    }
+
+    @Test
+    void artifactsAreDownloadedInParallel() {
+        final File[] files = Maven.configureResolver()
+            .withParallelDownloads(4)
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("latency", "http://localhost:" + HTTP_TEST_PORT, "default")
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0", "org.jboss.shrinkwrap.test:test-deps-g:1.0.0")
+            .withTransitivity().as(File.class);
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c+g.tree"))
+            .validate(files);
+        Assertions.assertTrue(handler.getMaxConcurrentRequests() > 1,
+            "Expected concurrent downloads, but at most " + handler.getMaxConcurrentRequests() + " were in flight");
+    }
+
+    @Test
+    void nonPositiveNumberOfDownloadsIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Maven.configureResolver().withParallelDownloads(0));
+    }
+
+    /**
+     * Serves files of a repository, delaying every response to make concurrent requests observable
+     */
+    private static class LatencyFileHandler extends AbstractHandler implements Handler {
+
+        private final File root;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        LatencyFileHandler(final File root) {
+            this.root = root;
+        }
+
+        int getMaxConcurrentRequests() {
+            return maxInFlight.get();
+        }
+
+        @Override
+        public void handle(final String target, final Request request, final HttpServletRequest httpServletRequest,
+            final HttpServletResponse response) throws IOException {
+            final int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(LATENCY_MILLIS);
+
+                final File file = new File(root, target);
+                if (!file.isFile()) {
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                } else {
+                    response.setStatus(HttpServletResponse.SC_OK);
+                    response.setContentLength((int) file.length());
+                    Files.copy(file.toPath(), response.getOutputStream());
+                }
+                request.setHandled(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.InMemoryResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionPhase;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that a resolution reports durations of its phases and transferred files to attached metrics
+ */
+class ResolutionMetricsTestCase {
+
+    private static final String METRICS_REPOSITORY = "target/metrics-repository";
+
+    @BeforeEach
+    void useEmptyLocalRepository() throws Exception {
+        // artifacts are only transferred if they are missing in the local repository
+        TestFileUtil.removeDirectory(new File(METRICS_REPOSITORY));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, METRICS_REPOSITORY);
+    }
+
+    @AfterEach
+    void clearLocalRepository() {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+    }
+
+    @Test
+    void resolutionIsMeasured() {
+        final InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        final MavenResolverSystem resolver = Maven.configureResolver()
+            .withResolutionMetrics(metrics)
+            .fromFile("target/settings/profiles/settings.xml");
+        resolver.loadPomFromFile("target/poms/test-bom.xml");
+
+        final File[] files = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+            .withTransitivity().asFile();
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(files);
+        for (ResolutionPhase phase : new ResolutionPhase[] { ResolutionPhase.SETTINGS_BUILDING,
+            ResolutionPhase.MODEL_BUILDING, ResolutionPhase.DEPENDENCY_COLLECTION,
+            ResolutionPhase.ARTIFACT_RESOLUTION, ResolutionPhase.POST_RESOLUTION_FILTERING }) {
+            Assertions.assertTrue(metrics.getPhase(phase).getCount() > 0, phase + " was not measured: " + metrics);
+        }
+
+        Assertions.assertTrue(metrics.getTransfers().getCount() > 0, "No transfer was measured: " + metrics);
+        final Long repositoryBytes = metrics.getBytesPerRepository().get("test-repository");
+        Assertions.assertNotNull(repositoryBytes, "Unexpected repositories " + metrics.getBytesPerRepository());
+        Assertions.assertTrue(repositoryBytes > 0L);
+        assertTransferred(metrics.getBytesPerArtifact(), "test-deps-c-1.0.0.jar");
+        assertTransferred(metrics.getBytesPerArtifact(), "test-deps-b-1.0.0.jar");
+        assertTransferred(metrics.getBytesPerArtifact(), "test-deps-b-1.0.0.pom");
+    }
+
+    private static void assertTransferred(final Map<String, Long> bytesPerArtifact, final String fileName) {
+        for (Map.Entry<String, Long> artifact : bytesPerArtifact.entrySet()) {
+            if (artifact.getKey().endsWith("/" + fileName)) {
+                Assertions.assertTrue(artifact.getValue() > 0L, "No bytes of " + fileName + " were transferred");
+                return;
+            }
+        }
+        Assertions.fail(fileName + " was not transferred, transferred were " + bytesPerArtifact.keySet());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that a streamed resolution provides the same artifacts as the resolution it streams, each of them once
+ */
+class StreamingResolutionTestCase {
+
+    private static final String STREAMING_LOCAL_REPOSITORY = "target/streaming-repository";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() throws IOException {
+        TestFileUtil.removeDirectory(new File(STREAMING_LOCAL_REPOSITORY));
+        // graphs collected by other tests would let the resolver skip downloading of POM files
+        MavenRepositorySystem.getDependencyGraphCache().clear();
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, STREAMING_LOCAL_REPOSITORY);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transitiveGraphIsStreamed() {
+        final MavenStrategyStage stage = Maven.configureResolver()
+            .fromFile("target/settings/profiles/settings.xml")
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0", "org.jboss.shrinkwrap.test:test-deps-g:1.0.0");
+
+        final List<String> streamed = stream(stage, TransitiveStrategy.INSTANCE);
+        final MavenResolvedArtifact[] resolved = stage.withTransitivity().asResolvedArtifact();
+
+        assertStreamedOnce(streamed, resolved);
+    }
+
+    @Test
+    void pomDependenciesAreStreamedWithoutTransitivity() {
+        final MavenStrategyStage stage = Maven.resolver().loadPomFromFile("target/poms/test-child.xml")
+            .importCompileAndRuntimeDependencies().resolve();
+
+        final List<String> streamed = stream(stage, NonTransitiveStrategy.INSTANCE);
+        final MavenResolvedArtifact[] resolved = stage.using(NonTransitiveStrategy.INSTANCE).asResolvedArtifact();
+
+        assertStreamedOnce(streamed, resolved);
+    }
+
+    private List<String> stream(final MavenStrategyStage stage, final MavenResolutionStrategy strategy) {
+        try (Stream<MavenResolvedArtifact> artifacts = stage.stream(strategy, executor)) {
+            return artifacts.map(artifact -> artifact.getCoordinate().toCanonicalForm()).collect(Collectors.toList());
+        }
+    }
+
+    private static void assertStreamedOnce(final List<String> streamed, final MavenResolvedArtifact[] resolved) {
+        final Set<String> unique = new HashSet<>(streamed);
+        Assertions.assertEquals(unique.size(), streamed.size(), "Artifacts were streamed repeatedly: " + streamed);
+        Assertions.assertFalse(unique.isEmpty(), "No artifact was streamed");
+        Assertions.assertEquals(Arrays.stream(resolved).map(artifact -> artifact.getCoordinate().toCanonicalForm())
+            .collect(Collectors.toSet()), unique);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.maven.testsupport.SyntheticRepository;
+import org.jboss.shrinkwrap.resolver.maven.testsupport.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies generated repositories are resolvable offline through a {@code file://} remote repository
+ */
+class SyntheticRepositoryTestCase {
+
+    private static final String SYNTHETIC_REPOSITORY = "target/synthetic-repository";
+
+    private static final String SYNTHETIC_LOCAL_REPOSITORY = "target/synthetic-local-repository";
+
+    @BeforeEach
+    void cleanRepositories() throws IOException {
+        TestFileUtil.removeDirectory(new File(SYNTHETIC_REPOSITORY));
+        TestFileUtil.removeDirectory(new File(SYNTHETIC_LOCAL_REPOSITORY));
+        MavenRepositorySystem.getDependencyGraphCache().clear();
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, SYNTHETIC_LOCAL_REPOSITORY);
+    }
+
+    @AfterEach
+    void clearLocalRepository() {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+    }
+
+    @Test
+    void graphWithRangesConflictsClassifiersAndBomIsResolved() throws IOException {
+        final SyntheticRepository repository = new SyntheticRepositoryGenerator()
+            .nodes(500).fanOut(4).versionRanges(0.2).conflicts(0.1).classifiers(0.1).bom(true).jarSize(512)
+            .generate(new File(SYNTHETIC_REPOSITORY).toPath());
+
+        final MavenResolvedArtifact[] artifacts = resolve(repository);
+
+        Assertions.assertEquals(repository.getArtifactCount(), artifacts.length);
+        Assertions.assertTrue(repository.getArtifactCount() > repository.getNodes(), "Expected classified artifacts");
+        final Set<String> artifactKeys = new HashSet<>();
+        for (MavenResolvedArtifact artifact : artifacts) {
+            // conflicts are mediated, so every artifact is resolved in a single version
+            Assertions.assertTrue(artifactKeys.add(artifact.getCoordinate().getArtifactId() + ":"
+                + artifact.getCoordinate().getClassifier()), "Duplicate " + artifact.getCoordinate());
+            Assertions.assertTrue(artifact.asFile().length() > 512, "Size of " + artifact.asFile());
+        }
+    }
+
+    @Test
+    void graphDepthIsLimited() throws IOException {
+        final SyntheticRepository repository = new SyntheticRepositoryGenerator().nodes(100).fanOut(2).depth(3)
+            .generate(new File(SYNTHETIC_REPOSITORY).toPath());
+
+        Assertions.assertEquals(3, repository.getDepth());
+        Assertions.assertEquals(100, resolve(repository).length);
+    }
+
+    private static MavenResolvedArtifact[] resolve(final SyntheticRepository repository) {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo(repository.asRemoteRepository("synthetic"))
+            .resolve(repository.getRoot())
+            .withTransitivity()
+            .asResolvedArtifact();
+    }
+}
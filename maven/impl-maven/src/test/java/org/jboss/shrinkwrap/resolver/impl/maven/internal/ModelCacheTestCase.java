@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelCache;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies caching of effective models and of models read during model building
+ */
+class ModelCacheTestCase {
+
+    private Path directory;
+    private File parent;
+    private File child;
+
+    @BeforeEach
+    void writePoms() throws IOException {
+        directory = Files.createTempDirectory("swr-model-cache");
+        parent = write("pom.xml", "<project><modelVersion>4.0.0</modelVersion><groupId>org.acme</groupId>"
+            + "<artifactId>parent</artifactId><version>1.0</version><packaging>pom</packaging>"
+            + "<properties><foo.version>1.0</foo.version></properties></project>");
+        child = write("child/pom.xml", "<project><modelVersion>4.0.0</modelVersion><parent><groupId>org.acme</groupId>"
+            + "<artifactId>parent</artifactId><version>1.0</version></parent><artifactId>child</artifactId>"
+            + "<dependencies><dependency><groupId>org.acme</groupId><artifactId>foo</artifactId>"
+            + "<version>${foo.version}</version></dependency></dependencies></project>");
+    }
+
+    @AfterEach
+    void deletePoms() throws IOException {
+        TestFileUtil.removeDirectory(directory.toFile());
+    }
+
+    @Test
+    void effectiveModelIsCopied() throws ModelBuildingException {
+        final EffectiveModelCache cache = new EffectiveModelCache(10);
+        final ModelBuildingRequest request = request(null);
+        final EffectiveModelCache.Key key = EffectiveModelCache.Key.of(request);
+        Assertions.assertNull(cache.get(key));
+
+        cache.put(key, new DefaultModelBuilderFactory().newInstance().build(request));
+        final Model model = cache.get(EffectiveModelCache.Key.of(request(null)));
+        Assertions.assertEquals("1.0", model.getDependencies().get(0).getVersion());
+        model.getDependencies().clear();
+
+        Assertions.assertEquals(1, cache.get(key).getDependencies().size());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void effectiveModelDependsOnUserPropertiesAndParent() throws ModelBuildingException {
+        final EffectiveModelCache cache = new EffectiveModelCache(10);
+        final ModelBuildingRequest request = request(null);
+        final EffectiveModelCache.Key key = EffectiveModelCache.Key.of(request);
+        cache.put(key, new DefaultModelBuilderFactory().newInstance().build(request));
+
+        final Properties userProperties = new Properties();
+        userProperties.setProperty("foo.version", "2.0");
+        Assertions.assertNull(cache.get(EffectiveModelCache.Key.of(request(userProperties))));
+
+        Assertions.assertTrue(parent.setLastModified(parent.lastModified() - 10000L));
+        Assertions.assertNull(cache.get(key), "Model should not be reused once its parent has changed");
+    }
+
+    @Test
+    void effectiveModelDependsOnSystemProperties() throws ModelBuildingException {
+        final EffectiveModelCache cache = new EffectiveModelCache(10);
+        final ModelBuildingRequest request = request(null);
+        cache.put(EffectiveModelCache.Key.of(request), new DefaultModelBuilderFactory().newInstance().build(request));
+
+        final Properties systemProperties = new Properties();
+        systemProperties.setProperty("foo.version", "2.0");
+        Assertions.assertNull(cache.get(EffectiveModelCache.Key.of(request(null).setSystemProperties(systemProperties))));
+    }
+
+    @Test
+    void modelsWithConditionallyActivatedProfilesAreNotCached() throws IOException, ModelBuildingException {
+        write("child/pom.xml", "<project><modelVersion>4.0.0</modelVersion><parent><groupId>org.acme</groupId>"
+            + "<artifactId>parent</artifactId><version>1.0</version></parent><artifactId>child</artifactId>"
+            + "<profiles><profile><id>foo</id><activation><file><exists>${basedir}/foo.txt</exists></file>"
+            + "</activation></profile></profiles></project>");
+        final EffectiveModelCache cache = new EffectiveModelCache(10);
+        final ModelBuildingRequest request = request(null);
+        cache.put(EffectiveModelCache.Key.of(request), new DefaultModelBuilderFactory().newInstance().build(request));
+
+        Assertions.assertEquals(0, cache.getModelCount());
+    }
+
+    @Test
+    void importedModelsDependOnProperties() {
+        final SharedModelCache cache = new SharedModelCache(10);
+        final Properties properties = new Properties();
+        properties.setProperty("foo.version", "2.0");
+        final ModelCache view = cache.forProperties(null, null);
+        final ModelCache otherView = cache.forProperties(null, properties);
+        final ModelCache systemView = cache.forProperties(properties, null);
+
+        view.put("org.acme", "bom", "1.0", "raw", "raw");
+        view.put("org.acme", "bom", "1.0", "import", "import");
+        view.put("org.acme", "bom", "1.0-SNAPSHOT", "raw", "snapshot");
+
+        Assertions.assertEquals("raw", otherView.get("org.acme", "bom", "1.0", "raw"));
+        Assertions.assertEquals("raw", systemView.get("org.acme", "bom", "1.0", "raw"));
+        Assertions.assertEquals("import", cache.forProperties(new Properties(), new Properties()).get("org.acme", "bom",
+            "1.0", "import"));
+        Assertions.assertNull(otherView.get("org.acme", "bom", "1.0", "import"));
+        Assertions.assertNull(systemView.get("org.acme", "bom", "1.0", "import"));
+        Assertions.assertNull(view.get("org.acme", "bom", "1.0-SNAPSHOT", "raw"), "Snapshots should not be cached");
+    }
+
+    @Test
+    void leastRecentlyUsedModelsAreEvicted() {
+        final SharedModelCache cache = new SharedModelCache(2);
+        final ModelCache view = cache.forProperties(null, null);
+        view.put("org.acme", "a", "1.0", "raw", "a");
+        view.put("org.acme", "b", "1.0", "raw", "b");
+        Assertions.assertEquals("a", view.get("org.acme", "a", "1.0", "raw"));
+        view.put("org.acme", "c", "1.0", "raw", "c");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("a", view.get("org.acme", "a", "1.0", "raw"));
+        Assertions.assertNull(view.get("org.acme", "b", "1.0", "raw"));
+        Assertions.assertEquals("c", view.get("org.acme", "c", "1.0", "raw"));
+    }
+
+    private ModelBuildingRequest request(final Properties userProperties) {
+        final DefaultModelBuildingRequest request = new DefaultModelBuildingRequest().setPomFile(child)
+            .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL).setProcessPlugins(false);
+        if (userProperties != null) {
+            request.setUserProperties(userProperties);
+        }
+        return request;
+    }
+
+    private File write(final String path, final String content) throws IOException {
+        final Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.Dependency;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ensures that resolver operations are recorded by JDK Flight Recorder
+ */
+class ResolverEventsTestCase {
+
+    @Test
+    void recordsEnabledEvents() throws IOException {
+        final Path dump = Files.createTempFile("swr-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.jboss.shrinkwrap.resolver.WorkspaceLookup");
+            recording.enable("org.jboss.shrinkwrap.resolver.DependencyCollection");
+            recording.start();
+
+            ResolverEvents.workspaceLookup(new DefaultArtifact("org.acme:missing:1.0")).complete(false);
+            final CollectRequest request = new CollectRequest();
+            request.addDependency(new Dependency(new DefaultArtifact("org.acme:root:1.0"), "compile"));
+            ResolverEvents.dependencyCollection(request).complete(true);
+
+            recording.stop();
+            recording.dump(dump);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            final RecordedEvent lookup = find(events, "org.jboss.shrinkwrap.resolver.WorkspaceLookup");
+            Assertions.assertEquals("org.acme:missing:jar:1.0", lookup.getString("artifact"));
+            Assertions.assertFalse(lookup.getBoolean("found"));
+            final RecordedEvent collection = find(events, "org.jboss.shrinkwrap.resolver.DependencyCollection");
+            Assertions.assertEquals("org.acme:root:jar:1.0", collection.getString("root"));
+            Assertions.assertEquals(1, collection.getInt("dependencies"));
+            Assertions.assertTrue(collection.getBoolean("successful"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    void disabledEventsAreNotCreated() {
+        try (Recording recording = new Recording()) {
+            recording.disable("org.jboss.shrinkwrap.resolver.ArchivePackaging");
+            recording.start();
+            Assertions.assertSame(ResolverEvent.DISABLED, ResolverEvents.archivePackaging(new File("archive.jar"), 1));
+        }
+    }
+
+    private static RecordedEvent find(final List<RecordedEvent> events, final String name) {
+        return events.stream().filter(event -> name.equals(event.getEventType().getName())).findFirst()
+            .orElseThrow(() -> new AssertionError("Event " + name + " was not recorded"));
+    }
+}
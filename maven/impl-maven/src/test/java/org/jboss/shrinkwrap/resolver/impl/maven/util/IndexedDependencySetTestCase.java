@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies lookups in {@link IndexedDependencySet}
+ */
+class IndexedDependencySetTestCase {
+
+    @Test
+    void managedDependencyIsFoundRegardlessOfVersion() {
+        final IndexedDependencySet set = new IndexedDependencySet();
+        set.addAll(Arrays.asList(dependency("org.acme:api:1.0"), dependency("org.acme:api:test-jar:tests:1.1")));
+
+        Assertions.assertEquals("1.0", set.find(dependency("org.acme:api:?")).getVersion());
+        Assertions.assertEquals("1.1", set.find(dependency("org.acme:api:test-jar:tests:?")).getVersion());
+        Assertions.assertNull(set.find(dependency("org.acme:api:pom:?")));
+    }
+
+    @Test
+    void firstAddedDependencyIsKept() {
+        final IndexedDependencySet set = new IndexedDependencySet();
+        Assertions.assertTrue(set.add(dependency("org.acme:api:1.0")));
+        Assertions.assertTrue(set.add(dependency("org.acme:impl:1.0")));
+        Assertions.assertFalse(set.add(dependency("org.acme:api:2.0")));
+
+        Assertions.assertEquals("1.0", set.find(dependency("org.acme:api:?")).getVersion());
+        Assertions.assertEquals(Arrays.asList(dependency("org.acme:api:1.0"), dependency("org.acme:impl:1.0")),
+            new ArrayList<>(set));
+    }
+
+    @Test
+    void removedDependencyIsNotFound() {
+        final IndexedDependencySet set = new IndexedDependencySet();
+        set.addAll(Arrays.asList(dependency("org.acme:api:1.0"), dependency("org.acme:impl:1.0")));
+
+        final Iterator<MavenDependency> iterator = set.iterator();
+        iterator.next();
+        iterator.remove();
+        Assertions.assertTrue(set.remove(dependency("org.acme:impl:2.0")));
+
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertNull(set.find(dependency("org.acme:api:?")));
+    }
+
+    private static MavenDependency dependency(final String canonicalForm) {
+        return MavenDependencies.createDependency(canonicalForm, ScopeType.COMPILE, false);
+    }
+}
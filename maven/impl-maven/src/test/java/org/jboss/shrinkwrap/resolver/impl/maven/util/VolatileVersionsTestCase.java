@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.util;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies versions which might resolve differently over time are recognized anywhere in a dependency graph
+ */
+class VolatileVersionsTestCase {
+
+    @Test
+    void recognizesVolatileVersions() {
+        Assertions.assertFalse(VolatileVersions.isVolatile("1.0"));
+        Assertions.assertTrue(VolatileVersions.isVolatile("1.0-SNAPSHOT"));
+        Assertions.assertTrue(VolatileVersions.isVolatile("[1.0,)"));
+        Assertions.assertTrue(VolatileVersions.isVolatile("LATEST"));
+        Assertions.assertTrue(VolatileVersions.isVolatile("RELEASE"));
+        Assertions.assertTrue(VolatileVersions.isVolatile(""));
+    }
+
+    @Test
+    void recognizesTransitiveVersionRange() throws InvalidVersionSpecificationException {
+        final DefaultDependencyNode root = new DefaultDependencyNode((Dependency) null);
+        final DefaultDependencyNode direct = node("org.foo:foo:1.0", "1.0");
+        final DefaultDependencyNode transitive = node("org.foo:bar:1.2", "1.2");
+        direct.getChildren().add(transitive);
+        root.getChildren().add(direct);
+        Assertions.assertFalse(VolatileVersions.isVolatile(root));
+
+        // the artifact has a fixed version once the range is resolved, the requested constraint tells the difference
+        transitive.setVersionConstraint(new GenericVersionScheme().parseVersionConstraint("[1.0,)"));
+        Assertions.assertTrue(VolatileVersions.isVolatile(root));
+    }
+
+    private static DefaultDependencyNode node(String coordinates, String constraint)
+            throws InvalidVersionSpecificationException {
+        final DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(new DefaultArtifact(coordinates),
+                "compile"));
+        node.setVersionConstraint(new GenericVersionScheme().parseVersionConstraint(constraint));
+        return node;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.maven.testsupport;
+
+import java.nio.file.Path;
+
+import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepositories;
+import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
+
+/**
+ * A Maven repository written to the disk by {@link SyntheticRepositoryGenerator}
+ */
+public final class SyntheticRepository {
+
+    private final Path directory;
+    private final String groupId;
+    private final int nodes;
+    private final int depth;
+    private final int classifiedNodes;
+    private final boolean bom;
+
+    SyntheticRepository(final Path directory, final String groupId, final int nodes, final int depth,
+            final int classifiedNodes, final boolean bom) {
+        this.directory = directory;
+        this.groupId = groupId;
+        this.nodes = nodes;
+        this.depth = depth;
+        this.classifiedNodes = classifiedNodes;
+        this.bom = bom;
+    }
+
+    /**
+     * Returns root directory of the repository
+     *
+     * @return Root directory of the repository
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns {@code file://} URL of the repository
+     *
+     * @return URL of the repository
+     */
+    public String getUrl() {
+        return directory.toUri().toString();
+    }
+
+    /**
+     * Creates a remote repository pointing to this repository
+     *
+     * @param id The unique ID of the repository to create
+     * @return The remote repository
+     */
+    public MavenRemoteRepository asRemoteRepository(final String id) {
+        return MavenRemoteRepositories.createRemoteRepository(id, getUrl(), "default");
+    }
+
+    /**
+     * Returns canonical form of the root of the graph, which depends transitively on every node of the graph
+     *
+     * @return Canonical form of the root
+     */
+    public String getRoot() {
+        return groupId + ":" + SyntheticRepositoryGenerator.nodeId(0) + ":" + SyntheticRepositoryGenerator.VERSION;
+    }
+
+    /**
+     * Returns canonical form of the BOM managing versions of all nodes of the graph
+     *
+     * @return Canonical form of the BOM or {@code null} if the BOM was not generated
+     */
+    public String getBom() {
+        if (!bom) {
+            return null;
+        }
+        return groupId + ":" + SyntheticRepositoryGenerator.BOM_ID + ":pom:" + SyntheticRepositoryGenerator.VERSION;
+    }
+
+    /**
+     * Returns number of nodes of the graph, including the root
+     *
+     * @return Number of nodes
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns depth of the deepest level nodes were placed in, the root being at depth {@code 0}
+     *
+     * @return Depth of the graph
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns number of artifacts transitive resolution of {@link #getRoot()} resolves, including the root itself. That
+     * is a single version of every node and every additional classified artifact.
+     *
+     * @return Number of resolved artifacts
+     */
+    public int getArtifactCount() {
+        return nodes + classifiedNodes;
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.maven.testsupport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a Maven repository with a generated dependency graph to the disk, so resolution can be tested and measured
+ * without network access. The graph is described by fluent setters and generated by {@link #generate(Path)}:
+ *
+ * <pre>
+ * SyntheticRepository repository = new SyntheticRepositoryGenerator().nodes(10000).fanOut(5).versionRanges(0.1)
+ *         .conflicts(0.05).classifiers(0.05).bom(true).jarSize(1024).generate(directory);
+ *
+ * Maven.configureResolver().withMavenCentralRepo(false).withRemoteRepo(repository.asRemoteRepository("synthetic"))
+ *         .resolve(repository.getRoot()).withTransitivity().asResolvedArtifact();
+ * </pre>
+ *
+ * Nodes are placed level by level, every node of a level has up to {@code fanOut} direct dependencies in the next level
+ * and the last level allowed by {@link #depth(int)} takes all remaining nodes. The root, node {@code 0}, depends
+ * transitively on every node. Every node is published in version {@code 1.0}, apart from that:
+ * <ul>
+ * <li>a fraction of dependencies declares range {@code [1.0,2.0)} instead of a version, see
+ * {@link #versionRanges(double)}</li>
+ * <li>a fraction of nodes is published in version {@code 2.0} too and an unrelated node depends on
+ * it, so there is a version conflict to mediate, see {@link #conflicts(double)}</li>
+ * <li>a fraction of nodes is published with classifier {@code tests} too and its parent depends on both
+ * artifacts, see {@link #classifiers(double)}</li>
+ * <li>a BOM managing version of every node is imported by the root, whose dependencies do not declare versions then,
+ * see {@link #bom(boolean)}</li>
+ * </ul>
+ * The same configuration, including {@link #seed(long)}, always generates the same repository.
+ */
+public final class SyntheticRepositoryGenerator {
+
+    /**
+     * Group ID of generated artifacts unless set by {@link #groupId(String)}
+     */
+    public static final String DEFAULT_GROUP_ID = "org.jboss.shrinkwrap.synthetic";
+
+    static final String VERSION = "1.0";
+    static final String CONFLICTING_VERSION = "2.0";
+    static final String VERSION_RANGE = "[1.0,2.0)";
+    static final String CLASSIFIER = "tests";
+    static final String BOM_ID = "bom";
+
+    private String groupId = DEFAULT_GROUP_ID;
+    private int nodes = 10;
+    private int fanOut = 5;
+    private int depth = Integer.MAX_VALUE;
+    private double versionRanges;
+    private double conflicts;
+    private double classifiers;
+    private boolean bom;
+    private int jarSize;
+    private long seed;
+
+    /**
+     * Sets group ID of all generated artifacts
+     *
+     * @param groupId Group ID
+     * @return Modified instance
+     * @throws IllegalArgumentException If group ID is {@code null} or empty
+     */
+    public SyntheticRepositoryGenerator groupId(final String groupId) throws IllegalArgumentException {
+        if (groupId == null || groupId.isEmpty()) {
+            throw new IllegalArgumentException("Group ID must be specified");
+        }
+        this.groupId = groupId;
+        return this;
+    }
+
+    /**
+     * Sets number of nodes of the graph, including the root
+     *
+     * @param nodes Number of nodes, {@code 10} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If number of nodes is lower than {@code 1}
+     */
+    public SyntheticRepositoryGenerator nodes(final int nodes) throws IllegalArgumentException {
+        if (nodes < 1) {
+            throw new IllegalArgumentException("Number of nodes must be at least 1, was " + nodes);
+        }
+        this.nodes = nodes;
+        return this;
+    }
+
+    /**
+     * Sets number of direct dependencies of nodes which are not leaves of the graph
+     *
+     * @param fanOut Number of direct dependencies, {@code 5} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If fan-out is lower than {@code 1}
+     */
+    public SyntheticRepositoryGenerator fanOut(final int fanOut) throws IllegalArgumentException {
+        if (fanOut < 1) {
+            throw new IllegalArgumentException("Fan-out must be at least 1, was " + fanOut);
+        }
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * Sets maximal depth of the graph. Nodes which do not fit into upper levels are all placed into the deepest level,
+     * so nodes of the level above it have more than {@code fanOut} direct dependencies.
+     *
+     * @param depth Maximal depth, unlimited by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If depth is lower than {@code 1}
+     */
+    public SyntheticRepositoryGenerator depth(final int depth) throws IllegalArgumentException {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1, was " + depth);
+        }
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Sets fraction of dependencies declaring a version range
+     *
+     * @param versionRanges Fraction between {@code 0} and {@code 1}, {@code 0} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If fraction is out of range
+     */
+    public SyntheticRepositoryGenerator versionRanges(final double versionRanges) throws IllegalArgumentException {
+        this.versionRanges = fraction("Version ranges", versionRanges);
+        return this;
+    }
+
+    /**
+     * Sets fraction of nodes published in two versions, both of them being referenced in the graph
+     *
+     * @param conflicts Fraction between {@code 0} and {@code 1}, {@code 0} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If fraction is out of range
+     */
+    public SyntheticRepositoryGenerator conflicts(final double conflicts) throws IllegalArgumentException {
+        this.conflicts = fraction("Conflicts", conflicts);
+        return this;
+    }
+
+    /**
+     * Sets fraction of nodes which have also a classified artifact referenced in the graph
+     *
+     * @param classifiers Fraction between {@code 0} and {@code 1}, {@code 0} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If fraction is out of range
+     */
+    public SyntheticRepositoryGenerator classifiers(final double classifiers) throws IllegalArgumentException {
+        this.classifiers = fraction("Classifiers", classifiers);
+        return this;
+    }
+
+    /**
+     * Sets whether a BOM managing versions of all nodes is generated and imported by the root
+     *
+     * @param bom Whether to generate the BOM, {@code false} by default
+     * @return Modified instance
+     */
+    public SyntheticRepositoryGenerator bom(final boolean bom) {
+        this.bom = bom;
+        return this;
+    }
+
+    /**
+     * Sets size of payload of every jar
+     *
+     * @param jarSize Size in bytes, {@code 0} by default
+     * @return Modified instance
+     * @throws IllegalArgumentException If size is negative
+     */
+    public SyntheticRepositoryGenerator jarSize(final int jarSize) throws IllegalArgumentException {
+        if (jarSize < 0) {
+            throw new IllegalArgumentException("Jar size must not be negative, was " + jarSize);
+        }
+        this.jarSize = jarSize;
+        return this;
+    }
+
+    /**
+     * Sets seed of random choices made while generating the graph
+     *
+     * @param seed Seed, {@code 0} by default
+     * @return Modified instance
+     */
+    public SyntheticRepositoryGenerator seed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Writes the repository
+     *
+     * @param directory Root of the repository, created if it does not exist
+     * @return Description of the written repository
+     * @throws IOException If the repository cannot be written
+     */
+    public SyntheticRepository generate(final Path directory) throws IOException {
+        final Random random = new Random(seed);
+        final List<List<Dependency>> dependencies = new ArrayList<>(nodes);
+        final boolean[] conflicting = new boolean[nodes];
+        final boolean[] classified = new boolean[nodes];
+        final int[] parents = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            dependencies.add(new ArrayList<>());
+        }
+
+        // place nodes level by level, the deepest level allowed takes all remaining nodes
+        int level = 0;
+        int levelStart = 0;
+        int levelSize = 1;
+        int next = 1;
+        while (next < nodes) {
+            level++;
+            final int size = level >= depth ? nodes - next : (int) Math.min((long) levelSize * fanOut, nodes - next);
+            for (int offset = 0; offset < size; offset++) {
+                final int parentOffset = offset / fanOut < levelSize ? offset / fanOut : offset % levelSize;
+                parents[next + offset] = levelStart + parentOffset;
+            }
+            levelStart = next;
+            levelSize = size;
+            next += size;
+        }
+
+        // dependencies always point to nodes with a higher index, so the graph has no cycles
+        for (int node = 1; node < nodes; node++) {
+            final int parent = parents[node];
+            final boolean range = random.nextDouble() < versionRanges;
+            final String version = range ? VERSION_RANGE : (bom && parent == 0 ? null : VERSION);
+            dependencies.get(parent).add(new Dependency(node, version, null));
+            if (random.nextDouble() < classifiers) {
+                classified[node] = true;
+                dependencies.get(parent).add(new Dependency(node, VERSION, CLASSIFIER));
+            }
+            if (random.nextDouble() < conflicts && node > 1) {
+                int dependent = random.nextInt(node);
+                if (dependent == parent) {
+                    dependent = (dependent + 1) % node;
+                }
+                conflicting[node] = true;
+                dependencies.get(dependent).add(new Dependency(node, CONFLICTING_VERSION, null));
+            }
+        }
+
+        final byte[] jar = jar(random);
+        int classifiedNodes = 0;
+        for (int node = 0; node < nodes; node++) {
+            final List<Dependency> nodeDependencies = dependencies.get(node);
+            final boolean importBom = bom && node == 0;
+            write(directory, nodeId(node), VERSION, pom(nodeId(node), VERSION, "jar", nodeDependencies, importBom));
+            write(directory, nodeId(node), VERSION, null, "jar", jar);
+            if (classified[node]) {
+                classifiedNodes++;
+                write(directory, nodeId(node), VERSION, CLASSIFIER, "jar", jar);
+            }
+            if (conflicting[node]) {
+                write(directory, nodeId(node), CONFLICTING_VERSION, pom(nodeId(node), CONFLICTING_VERSION, "jar",
+                        nodeDependencies, importBom));
+                write(directory, nodeId(node), CONFLICTING_VERSION, null, "jar", jar);
+                writeMetadata(directory, nodeId(node), VERSION, CONFLICTING_VERSION);
+            } else {
+                writeMetadata(directory, nodeId(node), VERSION);
+            }
+        }
+        if (bom) {
+            final List<Dependency> managed = new ArrayList<>(nodes);
+            for (int node = 1; node < nodes; node++) {
+                managed.add(new Dependency(node, VERSION, null));
+            }
+            write(directory, BOM_ID, VERSION, pom(BOM_ID, VERSION, "pom", managed, false));
+            writeMetadata(directory, BOM_ID, VERSION);
+        }
+        return new SyntheticRepository(directory, groupId, nodes, level, classifiedNodes, bom);
+    }
+
+    static String nodeId(final int node) {
+        return "node-" + node;
+    }
+
+    private String pom(final String artifactId, final String version, final String packaging,
+            final List<Dependency> dependencies, final boolean importBom) {
+        final boolean managed = BOM_ID.equals(artifactId);
+        final StringBuilder pom = new StringBuilder(256 + dependencies.size() * 160)
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>").append(groupId).append("</groupId>\n")
+                .append("  <artifactId>").append(artifactId).append("</artifactId>\n")
+                .append("  <version>").append(version).append("</version>\n")
+                .append("  <packaging>").append(packaging).append("</packaging>\n");
+        if (importBom) {
+            pom.append("  <dependencyManagement>\n")
+                    .append("    <dependencies>\n")
+                    .append("      <dependency>\n")
+                    .append("        <groupId>").append(groupId).append("</groupId>\n")
+                    .append("        <artifactId>").append(BOM_ID).append("</artifactId>\n")
+                    .append("        <version>").append(VERSION).append("</version>\n")
+                    .append("        <type>pom</type>\n")
+                    .append("        <scope>import</scope>\n")
+                    .append("      </dependency>\n")
+                    .append("    </dependencies>\n")
+                    .append("  </dependencyManagement>\n");
+        }
+        if (managed) {
+            pom.append("  <dependencyManagement>\n");
+        }
+        pom.append("  <dependencies>\n");
+        for (Dependency dependency : dependencies) {
+            pom.append("    <dependency>\n")
+                    .append("      <groupId>").append(groupId).append("</groupId>\n")
+                    .append("      <artifactId>").append(nodeId(dependency.node)).append("</artifactId>\n");
+            if (dependency.version != null) {
+                pom.append("      <version>").append(dependency.version).append("</version>\n");
+            }
+            if (dependency.classifier != null) {
+                pom.append("      <classifier>").append(dependency.classifier).append("</classifier>\n");
+            }
+            pom.append("    </dependency>\n");
+        }
+        pom.append("  </dependencies>\n");
+        if (managed) {
+            pom.append("  </dependencyManagement>\n");
+        }
+        return pom.append("</project>\n").toString();
+    }
+
+    private byte[] jar(final Random random) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(jarSize + 256);
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            zip.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            if (jarSize > 0) {
+                // random content does not compress, so the jar is about as large as requested
+                final byte[] payload = new byte[jarSize];
+                random.nextBytes(payload);
+                zip.putNextEntry(new ZipEntry("payload.bin"));
+                zip.write(payload);
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(final Path directory, final String artifactId, final String version, final String pom)
+            throws IOException {
+        write(directory, artifactId, version, null, "pom", pom.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void write(final Path directory, final String artifactId, final String version, final String classifier,
+            final String extension, final byte[] content) throws IOException {
+        final Path versionDirectory = artifactDirectory(directory, artifactId).resolve(version);
+        Files.createDirectories(versionDirectory);
+        final String fileName = artifactId + "-" + version + (classifier == null ? "" : "-" + classifier) + "."
+                + extension;
+        writeWithChecksum(versionDirectory.resolve(fileName), content);
+    }
+
+    private void writeMetadata(final Path directory, final String artifactId, final String... versions)
+            throws IOException {
+        final String latest = versions[versions.length - 1];
+        final StringBuilder metadata = new StringBuilder(256)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<metadata>\n")
+                .append("  <groupId>").append(groupId).append("</groupId>\n")
+                .append("  <artifactId>").append(artifactId).append("</artifactId>\n")
+                .append("  <versioning>\n")
+                .append("    <latest>").append(latest).append("</latest>\n")
+                .append("    <release>").append(latest).append("</release>\n")
+                .append("    <versions>\n");
+        for (String version : versions) {
+            metadata.append("      <version>").append(version).append("</version>\n");
+        }
+        metadata.append("    </versions>\n")
+                .append("    <lastUpdated>20260101000000</lastUpdated>\n")
+                .append("  </versioning>\n")
+                .append("</metadata>\n");
+        writeWithChecksum(artifactDirectory(directory, artifactId).resolve("maven-metadata.xml"),
+                metadata.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path artifactDirectory(final Path directory, final String artifactId) {
+        return directory.resolve(groupId.replace('.', '/')).resolve(artifactId);
+    }
+
+    // checksums are written so resolution does not warn about every missing one
+    private static void writeWithChecksum(final Path file, final byte[] content) throws IOException {
+        Files.write(file, content);
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported by this JVM", e);
+        }
+        final StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        Files.write(file.resolveSibling(file.getFileName() + ".sha1"),
+                Collections.singletonList(hex.toString()), StandardCharsets.US_ASCII);
+    }
+
+    private static double fraction(final String name, final double fraction) throws IllegalArgumentException {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException(name + " must be a fraction between 0 and 1, was " + fraction);
+        }
+        return fraction;
+    }
+
+    private static final class Dependency {
+        private final int node;
+        private final String version;
+        private final String classifier;
+
+        private Dependency(final int node, final String version, final String classifier) {
+            this.node = node;
+            this.version = version;
+            this.classifier = classifier;
+        }
+    }
+}